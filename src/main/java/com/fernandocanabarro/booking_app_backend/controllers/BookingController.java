@@ -1,9 +1,12 @@
 package com.fernandocanabarro.booking_app_backend.controllers;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,7 +32,6 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.booking.BookingRequ
 import com.fernandocanabarro.booking_app_backend.models.dtos.booking.BookingResponseDTO;
 import com.fernandocanabarro.booking_app_backend.services.AuthService;
 import com.fernandocanabarro.booking_app_backend.services.BookingService;
-import com.fernandocanabarro.booking_app_backend.services.excel.BookingsExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
 import com.fernandocanabarro.booking_app_backend.utils.DateUtils;
 
@@ -146,18 +148,8 @@ public class BookingController {
         String fileName = "bookings_" + currentDateTime + ".pdf";
         String headerValue = "inline; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        jasperService.addParams("MIN_AMOUNT", minAmount);
-        jasperService.addParams("MAX_AMOUNT", maxAmount);
-        jasperService.addParams("HOTEL_ID", hotelId);
-        jasperService.addParams("ROOM_ID", roomId);
-        jasperService.addParams("USER_ID", userId);
-        jasperService.addParams("MIN_CHECK_IN_DATE", DateUtils.convertStringParamToDate(minCheckInDate));
-        jasperService.addParams("MAX_CHECK_OUT_DATE", DateUtils.convertStringParamToDate(maxCheckOutDate));
-        jasperService.addParams("DINHEIRO_PAYMENT", dinheiro == null ? null : dinheiro.isBlank() ? null : dinheiro);
-        jasperService.addParams("CARTAO_PAYMENT", cartao == null ? null : cartao.isBlank() ? null : cartao);
-        jasperService.addParams("PIX_PAYMENT", pix == null ? null : pix.isBlank() ? null : pix);
-        jasperService.addParams("BOLETO_PAYMENT", boleto == null ? null : boleto.isBlank() ? null : boleto);
-        jasperService.exportToPdf(response, JasperService.BOOKINGS);
+        jasperService.exportToPdf(response, JasperService.BOOKINGS, JasperService.bookingsReportParams(minAmount, maxAmount, 
+            hotelId, roomId, userId, minCheckInDate, maxCheckOutDate, dinheiro, cartao, pix, boleto));
     }
 
     @GetMapping("/{id}/pdf")
@@ -168,8 +160,7 @@ public class BookingController {
         String fileName = "booking_" + id + currentDateTime + ".pdf";
         String headerValue = "inline; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        jasperService.addParams("BOOKING_ID", id);
-        jasperService.exportToPdf(response, JasperService.BOOKING_SUMMARY);
+        jasperService.exportToPdf(response, JasperService.BOOKING_SUMMARY, Map.of("BOOKING_ID", id));
     }
 
     @GetMapping("/{id}/boleto/pdf")
@@ -181,9 +172,10 @@ public class BookingController {
         String headerValue = "inline; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
         BookingDetailResponseDTO booking = this.bookingService.findById(id, false);
-        jasperService.addParams("USER_ID", booking.getUser().getId());
-        jasperService.addParams("AMOUNT", booking.getTotalPrice());
-        jasperService.exportToPdf(response, JasperService.BOLETO);
+        jasperService.exportToPdf(response, JasperService.BOLETO, Map.of(
+            "USER_ID", booking.getUser().getId(),
+            "AMOUNT", booking.getTotalPrice()
+        ));
     }
 
     @GetMapping("/boleto/pdf")
@@ -195,22 +187,48 @@ public class BookingController {
         String fileName = "boleto" + currentDateTime + ".pdf";
         String headerValue = "inline; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        jasperService.addParams("USER_ID", authService.getMe().getId());
-        jasperService.addParams("AMOUNT", amount);
-        jasperService.exportToPdf(response, JasperService.BOLETO);
+        jasperService.exportToPdf(response, JasperService.BOLETO, Map.of(
+            "USER_ID", authService.getMe().getId(),
+            "AMOUNT", amount
+        ));
     }
 
     @GetMapping("/excel")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
-    public void exportToExcel(HttpServletResponse response) {
+    public void exportToExcel(HttpServletResponse response) throws IOException {
         response.setContentType("application/octet-stream");
         String headerKey = "Content-Disposition";
         String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
         String fileName = "bookings_" + currentDateTime + ".xlsx";
         String headerValue = "attachment; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        List<BookingDetailResponseDTO> bookings = this.bookingService.findAllBookingsDetailed();
-        BookingsExcelExporter bookingsExcelExporter = new BookingsExcelExporter(bookings);
-        bookingsExcelExporter.export(response);
+        this.bookingService.exportToExcel(response.getOutputStream());
+    }
+
+    @GetMapping("/csv")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public void exportToCsv(HttpServletResponse response,
+                        @RequestParam(required = false) BigDecimal minAmount,
+                        @RequestParam(required = false) BigDecimal maxAmount,
+                        @RequestParam(required = false) Long hotelId,
+                        @RequestParam(required = false) Long roomId,
+                        @RequestParam(required = false) Long userId,
+                        @RequestParam(required = false) String minCheckInDate,
+                        @RequestParam(required = false) String maxCheckOutDate,
+                        @RequestParam(required = false) String dinheiro,
+                        @RequestParam(required = false) String cartao,
+                        @RequestParam(required = false) String pix,
+                        @RequestParam(required = false) String boleto) throws IOException {
+        response.setContentType("application/gzip");
+        String headerKey = "Content-Disposition";
+        String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
+        String fileName = "bookings_" + currentDateTime + ".csv.gz";
+        String headerValue = "attachment; filename=" + fileName;
+        response.setHeader(headerKey, headerValue);
+        List<String> paymentTypes = Stream.of(dinheiro, cartao, pix, boleto)
+            .filter(paymentType -> paymentType != null && !paymentType.isBlank())
+            .toList();
+        this.bookingService.exportToCsv(response.getOutputStream(), minAmount, maxAmount, hotelId, roomId, userId, 
+            DateUtils.convertStringParamToLocalDate(minCheckInDate), DateUtils.convertStringParamToLocalDate(maxCheckOutDate), paymentTypes);
     }
 }
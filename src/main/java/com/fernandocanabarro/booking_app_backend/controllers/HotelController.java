@@ -1,5 +1,6 @@
 package com.fernandocanabarro.booking_app_backend.controllers;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -25,8 +26,10 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelRequestD
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelSearchResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
 import com.fernandocanabarro.booking_app_backend.services.HotelService;
-import com.fernandocanabarro.booking_app_backend.services.excel.HotelExcelExporter;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
 import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -39,6 +42,7 @@ import lombok.RequiredArgsConstructor;
 public class HotelController {
 
     private final HotelService hotelService;
+    private final ImageService imageService;
     private final JasperService jasperService;
 
     @GetMapping("/search")
@@ -66,7 +70,8 @@ public class HotelController {
     @PreAuthorize("hasAnyRole('ROLE_OPERATOR','ROLE_ADMIN')")
     public ResponseEntity<Void> create(@Valid @RequestPart("request") HotelRequestDTO request,
                                     @RequestPart("images") List<MultipartFile> images) {
-        this.hotelService.create(request, images);
+        List<Image> storedImages = this.imageService.storeAll(images, ImageTypeEnum.HOTEL);
+        this.hotelService.create(request, storedImages);
         return ResponseEntity.status(201).build();
     }
 
@@ -75,7 +80,8 @@ public class HotelController {
     public ResponseEntity<Void> update(@PathVariable Long id, 
                                     @Valid @RequestPart("request") HotelRequestDTO request,
                                     @RequestPart(name = "images", required = false) List<MultipartFile> images) {
-        this.hotelService.update(id, request, images);
+        List<Image> storedImages = images != null ? this.imageService.storeAll(images, ImageTypeEnum.HOTEL) : null;
+        this.hotelService.update(id, request, storedImages);
         return ResponseEntity.ok().build();
     }
 
@@ -107,16 +113,26 @@ public class HotelController {
 
     @GetMapping("/excel")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
-    public void exportToExcel(HttpServletResponse response) {
+    public void exportToExcel(HttpServletResponse response) throws IOException {
         response.setContentType("application/octet-stream");
         String headerKey = "Content-Disposition";
         String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
         String fileName = "hotels_" + currentDateTime + ".xlsx";
         String headerValue = "attachment; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        List<HotelResponseDTO> hotels = hotelService.findAll();
-        HotelExcelExporter hotelExcelExporter = new HotelExcelExporter(hotels);
-        hotelExcelExporter.export(response);
+        hotelService.exportToExcel(response.getOutputStream());
+    }
+
+    @GetMapping("/csv")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public void exportToCsv(HttpServletResponse response) throws IOException {
+        response.setContentType("application/gzip");
+        String headerKey = "Content-Disposition";
+        String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
+        String fileName = "hotels_" + currentDateTime + ".csv.gz";
+        String headerValue = "attachment; filename=" + fileName;
+        response.setHeader(headerKey, headerValue);
+        hotelService.exportToCsv(response.getOutputStream());
     }
 
 }
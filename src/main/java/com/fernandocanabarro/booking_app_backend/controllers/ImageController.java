@@ -0,0 +1,32 @@
+package com.fernandocanabarro.booking_app_backend.controllers;
+
+import java.io.IOException;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageService imageService;
+
+    @GetMapping("/{id}")
+    public void findContentById(@PathVariable Long id,
+                                @RequestParam(defaultValue = "ORIGINAL") ImageVariantEnum variant,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        this.imageService.writeContent(id, variant, request, response);
+    }
+
+}
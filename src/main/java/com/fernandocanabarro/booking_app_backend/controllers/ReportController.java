@@ -0,0 +1,73 @@
+package com.fernandocanabarro.booking_app_backend.controllers;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fernandocanabarro.booking_app_backend.models.dtos.report.ReportJobResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportTypeEnum;
+import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
+import com.fernandocanabarro.booking_app_backend.services.report.ReportJob;
+import com.fernandocanabarro.booking_app_backend.services.report.ReportJobService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping("/{type}")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public ResponseEntity<ReportJobResponseDTO> submit(@PathVariable ReportTypeEnum type,
+                        @RequestParam(required = false) BigDecimal minAmount,
+                        @RequestParam(required = false) BigDecimal maxAmount,
+                        @RequestParam(required = false) Long hotelId,
+                        @RequestParam(required = false) Long roomId,
+                        @RequestParam(required = false) Long userId,
+                        @RequestParam(required = false) String minCheckInDate,
+                        @RequestParam(required = false) String maxCheckOutDate,
+                        @RequestParam(required = false) String dinheiro,
+                        @RequestParam(required = false) String cartao,
+                        @RequestParam(required = false) String pix,
+                        @RequestParam(required = false) String boleto) {
+        Map<String, Object> params = type == ReportTypeEnum.BOOKINGS_PDF
+            ? JasperService.bookingsReportParams(minAmount, maxAmount, hotelId, roomId, userId, 
+                minCheckInDate, maxCheckOutDate, dinheiro, cartao, pix, boleto)
+            : Map.of();
+        return ResponseEntity.accepted().body(this.reportJobService.submit(type, params));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public ResponseEntity<ReportJobResponseDTO> findById(@PathVariable String id) {
+        return ResponseEntity.ok(this.reportJobService.findById(id));
+    }
+
+    @GetMapping("/{id}/download")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public ResponseEntity<Resource> download(@PathVariable String id) {
+        ReportJob job = this.reportJobService.findCompletedById(id);
+        String completedAt = job.getCompletedAt().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
+        String fileName = job.getType().getFileName() + "_" + completedAt + "." + job.getType().getExtension();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(job.getType().getContentType()))
+            .header("Content-Disposition", "attachment; filename=" + fileName)
+            .body(new InputStreamResource(this.reportJobService.openFile(job)));
+    }
+
+}
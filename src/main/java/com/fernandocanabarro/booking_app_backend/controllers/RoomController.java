@@ -1,5 +1,6 @@
 package com.fernandocanabarro.booking_app_backend.controllers;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,9 +29,11 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRatingRequ
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRatingResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
 import com.fernandocanabarro.booking_app_backend.services.BookingService;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
 import com.fernandocanabarro.booking_app_backend.services.RoomService;
-import com.fernandocanabarro.booking_app_backend.services.excel.RoomsExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
 import com.fernandocanabarro.booking_app_backend.utils.DateUtils;
 
@@ -45,6 +48,7 @@ public class RoomController {
 
     private final RoomService roomService;
     private final BookingService bookingService;
+    private final ImageService imageService;
     private final JasperService jasperService;
 
     @GetMapping("/query")
@@ -75,7 +79,8 @@ public class RoomController {
     @PreAuthorize("hasAnyRole('ROLE_OPERATOR','ROLE_ADMIN')")
     public ResponseEntity<Void> create(@Valid @RequestPart("request") RoomRequestDTO request,
                                        @RequestPart(value = "images") List<MultipartFile> images) {                   
-        this.roomService.create(request, images);
+        List<Image> storedImages = this.imageService.storeAll(images, ImageTypeEnum.ROOM);
+        this.roomService.create(request, storedImages);
         return ResponseEntity.status(201).build();
     }
 
@@ -84,7 +89,8 @@ public class RoomController {
     public ResponseEntity<Void> update(@PathVariable Long id,
                                     @Valid @RequestPart("request") RoomRequestDTO request,
                                     @RequestPart(value = "images", required = false) List<MultipartFile> images) {
-        this.roomService.update(id, request, images);
+        List<Image> storedImages = images != null ? this.imageService.storeAll(images, ImageTypeEnum.ROOM) : null;
+        this.roomService.update(id, request, storedImages);
         return ResponseEntity.ok().build();
     }
 
@@ -127,16 +133,26 @@ public class RoomController {
 
     @GetMapping("/excel")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
-    public void exportToExcel(HttpServletResponse response) {
+    public void exportToExcel(HttpServletResponse response) throws IOException {
         response.setContentType("application/octet-stream");
         String headerKey = "Content-Disposition";
         String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
         String fileName = "rooms_" + currentDateTime + ".xlsx";
         String headerValue = "attachment; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        List<RoomResponseDTO> rooms = roomService.findAll();
-        RoomsExcelExporter roomsExcelExporter = new RoomsExcelExporter(rooms);
-        roomsExcelExporter.export(response);
+        roomService.exportToExcel(response.getOutputStream());
+    }
+
+    @GetMapping("/csv")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public void exportToCsv(HttpServletResponse response) throws IOException {
+        response.setContentType("application/gzip");
+        String headerKey = "Content-Disposition";
+        String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
+        String fileName = "rooms_" + currentDateTime + ".csv.gz";
+        String headerValue = "attachment; filename=" + fileName;
+        response.setHeader(headerKey, headerValue);
+        roomService.exportToCsv(response.getOutputStream());
     }
 
     @DeleteMapping("/images")
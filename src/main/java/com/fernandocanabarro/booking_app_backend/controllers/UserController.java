@@ -1,5 +1,6 @@
 package com.fernandocanabarro.booking_app_backend.controllers;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -25,7 +26,6 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.UserSearc
 import com.fernandocanabarro.booking_app_backend.models.dtos.booking.BookingDetailResponseDTO;
 import com.fernandocanabarro.booking_app_backend.services.BookingService;
 import com.fernandocanabarro.booking_app_backend.services.UserService;
-import com.fernandocanabarro.booking_app_backend.services.excel.UsersExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -100,16 +100,26 @@ public class UserController {
 
     @GetMapping("/excel")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
-    public void exportToExcel(HttpServletResponse response) {
+    public void exportToExcel(HttpServletResponse response) throws IOException {
         response.setContentType("application/octet-stream");
         String headerKey = "Content-Disposition";
         String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
         String fileName = "users_" + currentDateTime + ".xlsx";
         String headerValue = "attachment; filename=" + fileName;
         response.setHeader(headerKey, headerValue);
-        List<UserResponseDTO> users = this.userService.adminFindAllUsers();
-        UsersExcelExporter usersExcelExporter = new UsersExcelExporter(users);
-        usersExcelExporter.export(response);
+        this.userService.exportToExcel(response.getOutputStream());
+    }
+
+    @GetMapping("/csv")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    public void exportToCsv(HttpServletResponse response) throws IOException {
+        response.setContentType("application/gzip");
+        String headerKey = "Content-Disposition";
+        String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy_HH:mm:ss"));
+        String fileName = "users_" + currentDateTime + ".csv.gz";
+        String headerValue = "attachment; filename=" + fileName;
+        response.setHeader(headerKey, headerValue);
+        this.userService.exportToCsv(response.getOutputStream());
     }
 
 }
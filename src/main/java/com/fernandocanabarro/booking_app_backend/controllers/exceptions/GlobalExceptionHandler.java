@@ -18,9 +18,11 @@ import com.fernandocanabarro.booking_app_backend.services.exceptions.ExpiredCode
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ImageGeneratingException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.InvalidCurrentPasswordException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ReportNotReadyException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.RequiredWorkingHotelIdException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.RoomIsUnavailableForBookingException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.TooManyRequestsException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.UnauthorizedException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -61,13 +63,20 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({
         RoomIsUnavailableForBookingException.class,
         AlreadyExistingPropertyException.class,
-        InvalidCurrentPasswordException.class
+        InvalidCurrentPasswordException.class,
+        ReportNotReadyException.class
     })
     public ResponseEntity<StandardError> conflict(RuntimeException ex, HttpServletRequest request) {
         HttpStatus status = HttpStatus.CONFLICT;
         return this.buildStandardError(status, "Conflict", ex.getMessage(), request.getRequestURI());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<StandardError> tooManyRequests(TooManyRequestsException ex, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return this.buildStandardError(status, "Too Many Requests", ex.getMessage(), request.getRequestURI());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationError> invalidData(MethodArgumentNotValidException ex, HttpServletRequest request) {
         HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
@@ -7,6 +7,7 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelDetailRe
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
+import com.fernandocanabarro.booking_app_backend.projections.HotelListingProjection;
 
 public class HotelMapper {
 
@@ -40,6 +41,10 @@ public class HotelMapper {
     }
 
     public static HotelResponseDTO convertEntityToResponse(Hotel entity) {
+        return convertEntityToResponse(entity, entity.getImages().isEmpty() ? null : entity.getImages().get(0).getId());
+    }
+
+    public static HotelResponseDTO convertEntityToResponse(Hotel entity, Long cardImageId) {
         HotelResponseDTO response = new HotelResponseDTO();
         response.setId(entity.getId());
         response.setName(entity.getName());
@@ -52,7 +57,24 @@ public class HotelMapper {
         response.setZipCode(entity.getZipCode());
         response.setState(entity.getState());
         response.setPhone(entity.getPhone());
-        response.setCardDisplayImage(ImageMapper.convertEntityResponseDTO(entity.getImages().get(0)));
+        response.setCardDisplayImage(ImageMapper.convertIdToCardResponseDTO(cardImageId));
+        return response;
+    }
+
+    public static HotelResponseDTO convertListingToResponse(HotelListingProjection listing, Long cardImageId) {
+        HotelResponseDTO response = new HotelResponseDTO();
+        response.setId(listing.getId());
+        response.setName(listing.getName());
+        response.setDescription(listing.getDescription());
+        response.setAverageRating(listing.getAverageRating());
+        response.setRoomQuantity(listing.getRoomQuantity());
+        response.setStreet(listing.getStreet());
+        response.setNumber(listing.getNumber());
+        response.setCity(listing.getCity());
+        response.setZipCode(listing.getZipCode());
+        response.setState(listing.getState());
+        response.setPhone(listing.getPhone());
+        response.setCardDisplayImage(ImageMapper.convertIdToCardResponseDTO(cardImageId));
         return response;
     }
 
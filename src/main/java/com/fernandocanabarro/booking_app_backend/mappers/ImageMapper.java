@@ -2,13 +2,24 @@ package com.fernandocanabarro.booking_app_backend.mappers;
 
 import com.fernandocanabarro.booking_app_backend.models.dtos.image.ImageResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
 
 public class ImageMapper {
 
     public static ImageResponseDTO convertEntityResponseDTO(Image entity) {
         return ImageResponseDTO.builder()
                 .id(entity.getId())
-                .base64Image(entity.getBase64Image())
+                .url("/api/v1/images/" + entity.getId())
+                .build();
+    }
+
+    public static ImageResponseDTO convertIdToCardResponseDTO(Long imageId) {
+        if (imageId == null) {
+            return null;
+        }
+        return ImageResponseDTO.builder()
+                .id(imageId)
+                .url("/api/v1/images/" + imageId + "?variant=" + ImageVariantEnum.CARD)
                 .build();
     }
 
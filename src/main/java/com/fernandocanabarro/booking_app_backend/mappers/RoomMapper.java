@@ -42,6 +42,10 @@ public class RoomMapper {
     }
 
     public static RoomResponseDTO convertEntityToResponse(Room entity) {
+        return convertEntityToResponse(entity, entity.getImages().isEmpty() ? null : entity.getImages().get(0).getId());
+    }
+
+    public static RoomResponseDTO convertEntityToResponse(Room entity, Long cardImageId) {
         RoomResponseDTO response = new RoomResponseDTO();
         response.setId(entity.getId());
         response.setNumber(entity.getNumber());
@@ -51,10 +55,10 @@ public class RoomMapper {
         response.setDescription(entity.getDescription());
         response.setCapacity(entity.getCapacity());
         response.setHotelId(entity.getHotel().getId());
-        response.setRatingsQuantity(entity.getRatings().size());
+        response.setRatingsQuantity(entity.getRatingsQuantity());
         response.setAverageRating(entity.getAverageRating());
         response.setHotelName(entity.getHotel().getName());
-        response.setCardDisplayImage(ImageMapper.convertEntityResponseDTO(entity.getImages().get(0)));
+        response.setCardDisplayImage(ImageMapper.convertIdToCardResponseDTO(cardImageId));
         return response;
     }
 
@@ -67,7 +71,7 @@ public class RoomMapper {
         response.setPricePerNight(entity.getPricePerNight());
         response.setDescription(entity.getDescription());
         response.setCapacity(entity.getCapacity());
-        response.setRatingsQuantity(entity.getRatings().size());
+        response.setRatingsQuantity(entity.getRatingsQuantity());
         response.setAverageRating(entity.getAverageRating());
         response.setHotel(HotelMapper.convertEntityToResponse(entity.getHotel()));
         response.setUnavailableDates(entity.getUnavailableDates());
@@ -14,6 +14,6 @@ import lombok.Setter;
 public class ImageResponseDTO {
 
     private Long id;
-    private String base64Image;
+    private String url;
 
 }
@@ -0,0 +1,28 @@
+package com.fernandocanabarro.booking_app_backend.models.dtos.report;
+
+import java.time.LocalDateTime;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportJobStatusEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportTypeEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReportJobResponseDTO {
+
+    private String id;
+    private ReportTypeEnum type;
+    private ReportJobStatusEnum status;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private String error;
+
+}
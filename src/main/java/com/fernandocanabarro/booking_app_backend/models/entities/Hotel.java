@@ -5,6 +5,7 @@ import java.math.RoundingMode;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -51,20 +52,20 @@ public class Hotel {
     @OneToMany(mappedBy = "hotel", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Image> images;
 
+    @Column(insertable = false, updatable = false)
+    private Integer ratingCount;
+    @Column(insertable = false, updatable = false)
+    private BigDecimal ratingSum;
+
+    public int getRatingsQuantity() {
+        return this.ratingCount != null ? this.ratingCount : 0;
+    }
+
     public BigDecimal getAverageRating() {
-        if (this.rooms.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        Integer ratings = this.rooms.stream()
-            .filter(room -> !room.getRatings().isEmpty())
-            .toList().size();
-        if (ratings == 0) {
+        if (this.getRatingsQuantity() == 0) {
             return BigDecimal.ZERO;
         }
-        return this.rooms.stream()
-            .map(Room::getAverageRating)
-            .reduce(BigDecimal.ZERO, (a, b) -> a.add(b))
-            .divide(new BigDecimal(ratings), 1, RoundingMode.HALF_UP);
+        return this.ratingSum.divide(new BigDecimal(this.ratingCount), 1, RoundingMode.HALF_UP);
     }
 
 }
@@ -33,8 +33,18 @@ public class Image {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(columnDefinition = "TEXT")
-    private String base64Image;
+    @Column(length = 64)
+    private String storageKey;
+
+    @Column(length = 64)
+    private String thumbnailKey;
+
+    @Column(length = 64)
+    private String cardKey;
+
+    private String contentType;
+
+    private Long sizeBytes;
 
     @Enumerated(EnumType.STRING)
     private ImageTypeEnum imageType;
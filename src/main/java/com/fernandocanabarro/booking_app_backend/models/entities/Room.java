@@ -8,6 +8,7 @@ import java.util.List;
 import com.fernandocanabarro.booking_app_backend.models.enums.RoomTypeEnum;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -57,15 +58,10 @@ public class Room {
     public List<Image> images;
     @OneToMany(mappedBy = "room", fetch = FetchType.LAZY)
     private List<RoomRating> ratings;
-
-    public boolean isAvalableToBook(LocalDate checkIn, LocalDate checkOut, Long bookingIdToIgnore) {
-        List<Booking> bookings = this.bookings.stream()
-            .filter(roomBooking -> !roomBooking.isFinished())
-            .filter(roomBooking -> roomBooking.getId() != bookingIdToIgnore)
-            .filter(roomBooking -> checkIn.isBefore(roomBooking.getCheckOut().plusDays(1)) && checkOut.plusDays(1).isAfter(roomBooking.getCheckIn()))
-            .toList();
-        return bookings.isEmpty();
-    }
+    @Column(insertable = false, updatable = false)
+    private Integer ratingCount;
+    @Column(insertable = false, updatable = false)
+    private BigDecimal ratingSum;
 
     public List<LocalDate> getUnavailableDates() {
         return this.bookings.stream()
@@ -74,14 +70,15 @@ public class Room {
             .toList();
     }
 
+    public int getRatingsQuantity() {
+        return this.ratingCount != null ? this.ratingCount : 0;
+    }
+
     public BigDecimal getAverageRating() {
-        if (this.ratings.isEmpty()) {
+        if (this.getRatingsQuantity() == 0) {
             return BigDecimal.ZERO;
         }
-        return this.ratings.stream()
-            .map(RoomRating::getRating)
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .divide(new BigDecimal(this.ratings.size()), 1, RoundingMode.HALF_UP);
+        return this.ratingSum.divide(new BigDecimal(this.ratingCount), 1, RoundingMode.HALF_UP);
     }
 
 }
@@ -52,6 +52,8 @@ public class User implements UserDetails, Principal {
     private LocalDate birthDate;
     private LocalDateTime createdAt;
     private Boolean activated;
+    @Builder.Default
+    private Integer tokenVersion = 0;
     
     @ManyToOne
     @JoinColumn(name = "hotel_id", nullable = true, foreignKey = @ForeignKey(name = "fk_user_hotel", value = ConstraintMode.CONSTRAINT))
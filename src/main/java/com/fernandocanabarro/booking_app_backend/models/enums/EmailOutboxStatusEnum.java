@@ -0,0 +1,10 @@
+package com.fernandocanabarro.booking_app_backend.models.enums;
+
+public enum EmailOutboxStatusEnum {
+
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED;
+
+}
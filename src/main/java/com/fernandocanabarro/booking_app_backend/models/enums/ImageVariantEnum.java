@@ -0,0 +1,19 @@
+package com.fernandocanabarro.booking_app_backend.models.enums;
+
+public enum ImageVariantEnum {
+
+    THUMBNAIL(160),
+    CARD(640),
+    ORIGINAL(0);
+
+    private final int maxWidth;
+
+    ImageVariantEnum(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+}
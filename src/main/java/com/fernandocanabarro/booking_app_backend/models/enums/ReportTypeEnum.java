@@ -0,0 +1,37 @@
+package com.fernandocanabarro.booking_app_backend.models.enums;
+
+public enum ReportTypeEnum {
+
+    BOOKINGS_PDF("bookings", "pdf", "application/pdf"),
+    BOOKINGS_EXCEL("bookings", "xlsx", "application/octet-stream"),
+    ROOMS_PDF("rooms", "pdf", "application/pdf"),
+    ROOMS_GROUP_BY_HOTEL_PDF("rooms-group-by-hotel", "pdf", "application/pdf"),
+    ROOMS_EXCEL("rooms", "xlsx", "application/octet-stream"),
+    USERS_PDF("users", "pdf", "application/pdf"),
+    USERS_EXCEL("users", "xlsx", "application/octet-stream"),
+    HOTELS_PDF("hotels", "pdf", "application/pdf"),
+    HOTELS_EXCEL("hotels", "xlsx", "application/octet-stream");
+
+    private final String fileName;
+    private final String extension;
+    private final String contentType;
+
+    ReportTypeEnum(String fileName, String extension, String contentType) {
+        this.fileName = fileName;
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.PaymentTypeEnum;
+
+public interface BookingExportProjection {
+
+    Long getId();
+    LocalDate getCheckIn();
+    LocalDate getCheckOut();
+    PaymentTypeEnum getPaymentType();
+    Long getRoomId();
+    BigDecimal getPricePerNight();
+    String getHotelName();
+    String getGuestName();
+    String getGuestCpf();
+
+    default BigDecimal getTotalPrice() {
+        return this.getPricePerNight().multiply(BigDecimal.valueOf(ChronoUnit.DAYS.between(this.getCheckIn(), this.getCheckOut())));
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+import java.time.LocalDate;
+
+public interface BookingStayProjection {
+
+    Long getId();
+    Long getRoomId();
+    LocalDate getCheckIn();
+    LocalDate getCheckOut();
+
+}
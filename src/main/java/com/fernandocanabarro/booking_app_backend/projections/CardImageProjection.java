@@ -0,0 +1,8 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+public interface CardImageProjection {
+
+    Long getOwnerId();
+    Long getImageId();
+
+}
@@ -0,0 +1,15 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+public interface HotelExportProjection {
+
+    Long getId();
+    String getName();
+    Integer getRoomQuantity();
+    String getStreet();
+    String getNumber();
+    String getCity();
+    String getZipCode();
+    String getState();
+    String getPhone();
+
+}
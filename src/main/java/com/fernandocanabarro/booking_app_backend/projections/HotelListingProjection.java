@@ -0,0 +1,28 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public interface HotelListingProjection {
+
+    Long getId();
+    String getName();
+    String getDescription();
+    Integer getRoomQuantity();
+    String getStreet();
+    String getNumber();
+    String getCity();
+    String getZipCode();
+    String getState();
+    String getPhone();
+    Integer getRatingCount();
+    BigDecimal getRatingSum();
+
+    default BigDecimal getAverageRating() {
+        if (this.getRatingCount() == null || this.getRatingCount() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return this.getRatingSum().divide(new BigDecimal(this.getRatingCount()), 1, RoundingMode.HALF_UP);
+    }
+
+}
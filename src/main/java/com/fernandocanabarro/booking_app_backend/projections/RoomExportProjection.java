@@ -0,0 +1,18 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+import java.math.BigDecimal;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.RoomTypeEnum;
+
+public interface RoomExportProjection {
+
+    Long getId();
+    String getNumber();
+    Integer getFloor();
+    RoomTypeEnum getType();
+    BigDecimal getPricePerNight();
+    String getDescription();
+    Integer getCapacity();
+    Long getHotelId();
+
+}
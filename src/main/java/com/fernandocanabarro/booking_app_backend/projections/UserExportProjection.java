@@ -0,0 +1,18 @@
+package com.fernandocanabarro.booking_app_backend.projections;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface UserExportProjection {
+
+    Long getId();
+    String getFullName();
+    String getEmail();
+    String getPhone();
+    String getCpf();
+    LocalDate getBirthDate();
+    LocalDateTime getCreatedAt();
+    String getAuthorities();
+    Long getWorkingHotelId();
+
+}
@@ -3,15 +3,23 @@ package com.fernandocanabarro.booking_app_backend.repositories;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.fernandocanabarro.booking_app_backend.models.entities.Booking;
+import com.fernandocanabarro.booking_app_backend.models.enums.PaymentTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.BookingExportProjection;
 import com.fernandocanabarro.booking_app_backend.projections.BookingStatsSummaryProjection;
+import com.fernandocanabarro.booking_app_backend.projections.BookingStayProjection;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -44,6 +52,14 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT obj FROM Booking obj WHERE obj.room.id = :roomId")
     Page<Booking> findByRoomId(Long roomId, Pageable pageable);
 
+    @Query("SELECT obj.id AS id, obj.room.id AS roomId, obj.checkIn AS checkIn, obj.checkOut AS checkOut " +
+        "FROM Booking obj WHERE obj.isFinished = false")
+    List<BookingStayProjection> findAllUnfinishedStays();
+
+    @Query("SELECT obj.id AS id, obj.room.id AS roomId, obj.checkIn AS checkIn, obj.checkOut AS checkOut " +
+        "FROM Booking obj WHERE obj.isFinished = false AND obj.room.id = :roomId")
+    List<BookingStayProjection> findUnfinishedStaysByRoomId(Long roomId);
+
     @Query(nativeQuery = true, value = """
         SELECT EXTRACT(MONTH FROM b.check_in) "month", SUM(p.amount) "amount", COUNT(b.id) "booking_quantity", SUM(guests_quantity) "guests"
         FROM payments p
@@ -92,4 +108,20 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     """)
     BigDecimal getAverageStayDays(Long hotelId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT obj.id AS id, obj.checkIn AS checkIn, obj.checkOut AS checkOut, p.paymentType AS paymentType, " +
+        "r.id AS roomId, r.pricePerNight AS pricePerNight, h.name AS hotelName, u.fullName AS guestName, u.cpf AS guestCpf " +
+        "FROM Booking obj JOIN obj.payment p JOIN obj.room r JOIN r.hotel h JOIN obj.user u " +
+        "WHERE (:minAmount IS NULL OR p.amount >= :minAmount) " +
+        "AND (:maxAmount IS NULL OR p.amount <= :maxAmount) " +
+        "AND (:hotelId IS NULL OR h.id = :hotelId) " +
+        "AND (:roomId IS NULL OR r.id = :roomId) " +
+        "AND (:userId IS NULL OR u.id = :userId) " +
+        "AND (:minCheckIn IS NULL OR obj.checkIn >= :minCheckIn) " +
+        "AND (:maxCheckOut IS NULL OR obj.checkOut <= :maxCheckOut) " +
+        "AND (:paymentTypes IS NULL OR p.paymentType IN :paymentTypes) " +
+        "ORDER BY obj.id")
+    Stream<BookingExportProjection> streamAllForExport(BigDecimal minAmount, BigDecimal maxAmount, Long hotelId, Long roomId, 
+        Long userId, LocalDate minCheckIn, LocalDate maxCheckOut, List<PaymentTypeEnum> paymentTypes);
+
 }
@@ -0,0 +1,24 @@
+package com.fernandocanabarro.booking_app_backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
+
+@Repository
+public interface EmailOutboxMessageRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    @Query(nativeQuery = true, value = """
+        SELECT * FROM email_outbox
+        WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """)
+    List<EmailOutboxMessage> findDueMessagesForUpdate(LocalDateTime now, int limit);
+
+}
@@ -1,20 +1,48 @@
 package com.fernandocanabarro.booking_app_backend.repositories;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
+import com.fernandocanabarro.booking_app_backend.projections.HotelExportProjection;
+import com.fernandocanabarro.booking_app_backend.projections.HotelListingProjection;
 import com.fernandocanabarro.booking_app_backend.projections.HotelSearchProjection;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
 
-    Page<Hotel> findAllByNameContainingIgnoreCase(String name, Pageable pageable);
+    String LISTING_SELECT = "SELECT obj.id AS id, obj.name AS name, obj.description AS description, obj.roomQuantity AS roomQuantity, " +
+        "obj.street AS street, obj.number AS number, obj.city AS city, obj.zipCode AS zipCode, obj.state AS state, obj.phone AS phone, " +
+        "obj.ratingCount AS ratingCount, obj.ratingSum AS ratingSum FROM Hotel obj ";
 
     List<HotelSearchProjection> findAllByNameContainingIgnoreCase(String name);
 
+    @Query(LISTING_SELECT + "ORDER BY obj.id")
+    List<HotelListingProjection> findAllListings();
+
+    @Query(value = LISTING_SELECT + "WHERE LOWER(obj.name) LIKE LOWER(CONCAT('%', :name, '%'))",
+        countQuery = "SELECT COUNT(obj) FROM Hotel obj WHERE LOWER(obj.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Page<HotelListingProjection> findListingsByName(String name, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT obj.id AS id, obj.name AS name, obj.roomQuantity AS roomQuantity, obj.street AS street, obj.number AS number, " +
+        "obj.city AS city, obj.zipCode AS zipCode, obj.state AS state, obj.phone AS phone FROM Hotel obj ORDER BY obj.id")
+    Stream<HotelExportProjection> streamAllForExport();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE hotels SET rating_count = rating_count + :countDelta, rating_sum = rating_sum + :sumDelta WHERE id = :hotelId")
+    void addToRatingAggregate(Long hotelId, int countDelta, BigDecimal sumDelta);
+
 }
@@ -1,11 +1,25 @@
 package com.fernandocanabarro.booking_app_backend.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.projections.CardImageProjection;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
+    @Query("SELECT i.room.id AS ownerId, MIN(i.id) AS imageId FROM Image i WHERE i.room.id IN :roomIds GROUP BY i.room.id")
+    List<CardImageProjection> findCardImagesByRoomIds(Collection<Long> roomIds);
+
+    @Query("SELECT i.hotel.id AS ownerId, MIN(i.id) AS imageId FROM Image i WHERE i.hotel.id IN :hotelIds GROUP BY i.hotel.id")
+    List<CardImageProjection> findCardImagesByHotelIds(Collection<Long> hotelIds);
+
+    Optional<Image> findFirstByStorageKeyAndCardKeyNotNull(String storageKey);
+
 }
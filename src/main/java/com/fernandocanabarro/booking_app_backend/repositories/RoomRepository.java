@@ -1,15 +1,23 @@
 package com.fernandocanabarro.booking_app_backend.repositories;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.fernandocanabarro.booking_app_backend.models.entities.Room;
+import com.fernandocanabarro.booking_app_backend.projections.RoomExportProjection;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
@@ -28,6 +36,19 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
         "AND (:capacity IS NULL OR obj.capacity = :capacity) " + 
         "AND obj.pricePerNight BETWEEN :minPrice AND :maxPrice " + 
         "AND (:city IS NULL OR LOWER(h.city) LIKE LOWER(CONCAT('%', :city, '%'))) " +
-        "AND (:hotelId IS NULL OR h.id = :hotelId)")
-    Page<Room> findByTypeOrCapacityOrPricePerNightOrByHotelCity(List<String> types, Integer capacity, BigDecimal minPrice, BigDecimal maxPrice, String city, Long hotelId, Pageable pageable);
+        "AND (:hotelId IS NULL OR h.id = :hotelId) " +
+        "AND NOT EXISTS (SELECT b.id FROM Booking b WHERE b.room = obj AND b.isFinished = false " +
+        "AND b.checkIn <= :checkOut AND b.checkOut >= :checkIn)")
+    Page<Room> findAvailableByTypeOrCapacityOrPricePerNightOrByHotelCity(List<String> types, Integer capacity, BigDecimal minPrice, BigDecimal maxPrice, 
+        String city, Long hotelId, LocalDate checkIn, LocalDate checkOut, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT obj.id AS id, obj.number AS number, obj.floor AS floor, obj.type AS type, obj.pricePerNight AS pricePerNight, " +
+        "obj.description AS description, obj.capacity AS capacity, obj.hotel.id AS hotelId FROM Room obj ORDER BY obj.id")
+    Stream<RoomExportProjection> streamAllForExport();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE rooms SET rating_count = rating_count + :countDelta, rating_sum = rating_sum + :sumDelta WHERE id = :roomId")
+    void addToRatingAggregate(Long roomId, int countDelta, BigDecimal sumDelta);
+
 }
@@ -2,23 +2,32 @@ package com.fernandocanabarro.booking_app_backend.repositories;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
 import com.fernandocanabarro.booking_app_backend.projections.UserDetailsProjection;
+import com.fernandocanabarro.booking_app_backend.projections.UserExportProjection;
 import com.fernandocanabarro.booking_app_backend.projections.UserSearchProjection;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
     Optional<User> findByCpf(String cpf);
 
+    @Query("SELECT obj.tokenVersion FROM User obj WHERE obj.id = :id")
+    Optional<Integer> findTokenVersionById(Long id);
+
     Page<User> findAllByFullNameContainingIgnoreCase(String fullName, Pageable pageable);
 
     @Query(nativeQuery = true, value = """
@@ -32,4 +41,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<UserSearchProjection> findAllByCpfContainingIgnoreCase(String cpf);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT obj.id AS id, obj.fullName AS fullName, obj.email AS email, obj.phone AS phone, obj.cpf AS cpf, " +
+        "obj.birthDate AS birthDate, obj.createdAt AS createdAt, listagg(r.authority, ',') AS authorities, h.id AS workingHotelId " +
+        "FROM User obj LEFT JOIN obj.roles r LEFT JOIN obj.workingHotel h " +
+        "GROUP BY obj.id, obj.fullName, obj.email, obj.phone, obj.cpf, obj.birthDate, obj.createdAt, h.id ORDER BY obj.id")
+    Stream<UserExportProjection> streamAllForExport();
+
 }
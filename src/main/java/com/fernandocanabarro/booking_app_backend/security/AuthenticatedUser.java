@@ -0,0 +1,43 @@
+package com.fernandocanabarro.booking_app_backend.security;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public record AuthenticatedUser(Long id, String email, Long workingHotelId, Set<String> authorities) {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String WORKING_HOTEL_ID_CLAIM = "workingHotelId";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    public static AuthenticatedUser from(Jwt jwt) {
+        List<String> authorities = jwt.getClaimAsStringList(AUTHORITIES_CLAIM);
+        return new AuthenticatedUser(
+            getLongClaim(jwt, USER_ID_CLAIM),
+            jwt.getSubject(),
+            getLongClaim(jwt, WORKING_HOTEL_ID_CLAIM),
+            authorities != null ? Set.copyOf(authorities) : Set.of());
+    }
+
+    static Long getLongClaim(Jwt jwt, String name) {
+        return jwt.getClaims().get(name) instanceof Number number ? number.longValue() : null;
+    }
+
+    public boolean hasRole(String roleName) {
+        return this.authorities.contains(roleName);
+    }
+
+    public boolean hasAdminPermission() {
+        return this.hasRole("ROLE_OPERATOR") || this.hasRole("ROLE_ADMIN");
+    }
+
+    public boolean isAbleToCreateOrUpdateRoom(Long hotelId) {
+        if (this.hasRole("ROLE_ADMIN")) {
+            return true;
+        }
+        return this.workingHotelId != null && this.workingHotelId.equals(hotelId);
+    }
+
+}
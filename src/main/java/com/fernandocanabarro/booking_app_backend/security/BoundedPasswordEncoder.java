@@ -0,0 +1,120 @@
+package com.fernandocanabarro.booking_app_backend.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fernandocanabarro.booking_app_backend.services.exceptions.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String OVERLOADED_MESSAGE = "Too many authentication requests. Try again later.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrency, int queueCapacity, Duration timeout,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        int workers = Math.max(1, maxConcurrency);
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)));
+        this.encodeTimer = Timer.builder("auth.password.hashing")
+            .description("Time spent hashing or verifying a password on the password executor")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing")
+            .description("Time spent hashing or verifying a password on the password executor")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+            .description("Password operations refused because the password executor was saturated")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", this.executor, executor -> executor.getQueue().size())
+            .description("Password operations waiting for a free password executor thread")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.active", this.executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password operations running on the password executor, including ones whose caller timed out")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.execute(this.encodeTimer.wrap(() -> this.delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return this.execute(this.matchesTimer.wrap(() -> this.delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = this.executor.submit(task);
+        }
+        catch (RejectedExecutionException e) {
+            this.rejectedCounter.increment();
+            throw new TooManyRequestsException(OVERLOADED_MESSAGE);
+        }
+        try {
+            return future.get(this.timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException e) {
+            // A hash that already started cannot be interrupted, so it keeps its worker until it finishes and still
+            // counts against the executor capacity. Only tasks still waiting in the queue are dropped.
+            future.cancel(false);
+            this.executor.purge();
+            this.rejectedCounter.increment();
+            throw new TooManyRequestsException(OVERLOADED_MESSAGE);
+        }
+        catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password operation interrupted", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void shutdown() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(this.timeoutNanos, TimeUnit.NANOSECONDS)) {
+                this.executor.shutdownNow();
+            }
+        }
+        catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
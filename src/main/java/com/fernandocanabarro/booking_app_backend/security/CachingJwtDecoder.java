@@ -0,0 +1,91 @@
+package com.fernandocanabarro.booking_app_backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> validator;
+    private final Map<String, Jwt> verifiedTokens;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> validator, int maxEntries, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.validator = validator;
+        this.verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<String, Jwt>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Jwt> eldest) {
+                return this.size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("auth.jwt.decode.cache")
+            .description("Bearer tokens served from the verified JWT cache or decoded again")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("auth.jwt.decode.cache")
+            .description("Bearer tokens served from the verified JWT cache or decoded again")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("auth.jwt.decode.cache.size", this.verifiedTokens, Map::size)
+            .description("Verified JWTs currently held in the cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = this.verifiedTokens.get(key);
+        if (cached != null) {
+            OAuth2TokenValidatorResult result = this.validator.validate(cached);
+            if (!result.hasErrors()) {
+                this.hits.increment();
+                return cached;
+            }
+            this.verifiedTokens.remove(key);
+            throw new JwtValidationException(describe(result), result.getErrors());
+        }
+        this.misses.increment();
+        Jwt jwt = this.delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            this.verifiedTokens.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private static String describe(OAuth2TokenValidatorResult result) {
+        return "An error occurred while attempting to decode the Jwt: " + result.getErrors().stream()
+            .map(OAuth2Error::getDescription)
+            .findFirst()
+            .orElse("Unable to validate Jwt");
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package com.fernandocanabarro.booking_app_backend.security;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -17,8 +18,12 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
@@ -27,11 +32,15 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.fernandocanabarro.booking_app_backend.services.auth.TokenVersionRegistry;
+
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import jakarta.servlet.http.HttpServletRequest;
 
 @Configuration
@@ -74,16 +83,25 @@ public class ProjectSecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.password.bcrypt.strength:10}") int strength,
+                                           @Value("${auth.password.hashing.max-concurrency:4}") int maxConcurrency,
+                                           @Value("${auth.password.hashing.queue-capacity:50}") int queueCapacity,
+                                           @Value("${auth.password.hashing.timeout:2s}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), maxConcurrency, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder
+    public JwtDecoder jwtDecoder(TokenVersionRegistry tokenVersionRegistry, MeterRegistry meterRegistry,
+                                 @Value("${auth.jwt.cache.max-entries:10000}") int maxEntries) {
+        OAuth2TokenValidator<Jwt> jwtValidator = new DelegatingOAuth2TokenValidator<>(
+            JwtValidators.createDefault(), new TokenVersionValidator(tokenVersionRegistry));
+        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder
             .withPublicKey(jwtPublicKey)
             .build();
+        jwtDecoder.setJwtValidator(jwtValidator);
+        return new CachingJwtDecoder(jwtDecoder, jwtValidator, maxEntries, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,36 @@
+package com.fernandocanabarro.booking_app_backend.security;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.fernandocanabarro.booking_app_backend.services.auth.TokenVersionRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TokenVersionValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOKED_TOKEN = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+        "The token was issued before the user's permissions changed", null);
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        Long userId = AuthenticatedUser.getLongClaim(jwt, AuthenticatedUser.USER_ID_CLAIM);
+        Long tokenVersion = AuthenticatedUser.getLongClaim(jwt, AuthenticatedUser.TOKEN_VERSION_CLAIM);
+        // Tokens issued before uid/ver claims existed cannot be checked for revocation, so they force a new login
+        if (userId == null || tokenVersion == null) {
+            return OAuth2TokenValidatorResult.failure(REVOKED_TOKEN);
+        }
+        Integer currentVersion = this.tokenVersionRegistry.findCurrentVersion(userId);
+        if (currentVersion == null || currentVersion.longValue() != tokenVersion) {
+            return OAuth2TokenValidatorResult.failure(REVOKED_TOKEN);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+
+}
@@ -11,6 +11,7 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.UserSelfU
 import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.ActivateAccountRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.AlreadyExistsResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
+import com.fernandocanabarro.booking_app_backend.security.AuthenticatedUser;
 
 public interface AuthService {
 
@@ -18,6 +19,7 @@ public interface AuthService {
     void register(RegistrationRequestDTO request);
     void activateAccount(ActivateAccountRequestDTO request);
     User getConnectedUser();
+    AuthenticatedUser getAuthenticatedUser();
     UserResponseDTO getMe();
     void validateJWTToken(String token);
     void userSelfUpdateInfos(UserSelfUpdateInfosRequestDTO request);
@@ -1,5 +1,6 @@
 package com.fernandocanabarro.booking_app_backend.services;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -17,6 +18,9 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.booking.BookingResp
 public interface BookingService {
 
     List<BookingDetailResponseDTO> findAllBookingsDetailed();
+    void exportToExcel(OutputStream outputStream);
+    void exportToCsv(OutputStream outputStream, BigDecimal minAmount, BigDecimal maxAmount, Long hotelId, Long roomId, 
+        Long userId, LocalDate minCheckInDate, LocalDate maxCheckOutDate, List<String> paymentTypes);
     Page<BookingResponseDTO> findAllPageable(Pageable pageable, LocalDate checkIn, LocalDate checkOut, Long hotelId, 
         BigDecimal minPrice, BigDecimal maxPrice, List<String> paymentType);
     BookingDetailResponseDTO findById(Long id, boolean verifyPermission);
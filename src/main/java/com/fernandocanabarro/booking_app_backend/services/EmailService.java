@@ -1,12 +1,15 @@
 package com.fernandocanabarro.booking_app_backend.services;
 
+import java.util.List;
 import java.util.Map;
 
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
 import com.sendgrid.helpers.mail.Mail;
 
 public interface EmailService {
 
     void sendEmail(Mail mail);
     Mail createEmail(String emailTo, String subject, Map<String, Object> variables, String templateName);
+    Map<Long, String> sendBatch(String templateName, List<EmailOutboxMessage> messages);
 
 }
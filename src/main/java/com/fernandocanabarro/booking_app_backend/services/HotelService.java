@@ -1,26 +1,29 @@
 package com.fernandocanabarro.booking_app_backend.services;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelDetailResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelSearchResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
 
 public interface HotelService {
 
     List<HotelSearchResponseDTO> findAllByName(String name);
     List<HotelResponseDTO> findAll();
+    void exportToExcel(OutputStream outputStream);
+    void exportToCsv(OutputStream outputStream);
     Page<HotelResponseDTO> findAllPageable(Pageable pageable, String name);
     Page<RoomResponseDTO> findRoomsByHotelId(Long hotelId, Pageable pageable);
     HotelDetailResponseDTO findById(Long id);
-    void create(HotelRequestDTO request, List<MultipartFile> images);
-    void update(Long id, HotelRequestDTO request, List<MultipartFile> images);
+    void create(HotelRequestDTO request, List<Image> images);
+    void update(Long id, HotelRequestDTO request, List<Image> images);
     void delete(Long id);
     void deleteImages(List<Long> imagesIds);
 
@@ -0,0 +1,26 @@
+package com.fernandocanabarro.booking_app_backend.services;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public interface ImageService {
+
+    List<Image> storeAll(List<MultipartFile> files, ImageTypeEnum imageType);
+    void insertAll(List<Image> images);
+    Map<Long, Long> findRoomCardImageIds(Collection<Long> roomIds);
+    Map<Long, Long> findHotelCardImageIds(Collection<Long> hotelIds);
+    void delete(Long id);
+    void writeContent(Long id, ImageVariantEnum variant, HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+}
@@ -1,28 +1,31 @@
 package com.fernandocanabarro.booking_app_backend.services;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomDetailResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRatingRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRatingResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
 
 public interface RoomService {
 
     List<RoomResponseDTO> findAll();
+    void exportToExcel(OutputStream outputStream);
+    void exportToCsv(OutputStream outputStream);
     Page<RoomResponseDTO> findAllPageable(List<String> types, Integer capacity, BigDecimal minPrice, BigDecimal maxPrice, 
         String city, LocalDate checkIn, LocalDate checkOut, Long hotelId, Pageable pageable);
     Page<RoomResponseDTO> findAllPageable(Pageable pageable);
     RoomDetailResponseDTO findById(Long id);
-    void create(RoomRequestDTO request, List<MultipartFile> images);
-    void update(Long id, RoomRequestDTO request, List<MultipartFile> images);
+    void create(RoomRequestDTO request, List<Image> images);
+    void update(Long id, RoomRequestDTO request, List<Image> images);
     void delete(Long id);
     void deleteImages(List<Long> imagesIds);
     Page<RoomRatingResponseDTO> findAllRatingsByRoomId(Long roomId, Pageable pageable);
@@ -1,5 +1,6 @@
 package com.fernandocanabarro.booking_app_backend.services;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -14,6 +15,8 @@ public interface UserService {
 
     List<UserSearchResponseDTO> findAllByCpf(String cpf);
     List<UserResponseDTO> adminFindAllUsers();
+    void exportToExcel(OutputStream outputStream);
+    void exportToCsv(OutputStream outputStream);
     Page<UserResponseDTO> adminFindAllUsersPageable(Pageable pageable, String fullName);
     UserResponseDTO adminFindUserById(Long id);
     void adminCreateUser(AdminCreateUserRequestDTO request);
@@ -0,0 +1,64 @@
+package com.fernandocanabarro.booking_app_backend.services.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.User;
+
+import jakarta.persistence.EntityManager;
+
+@Component
+public class ConnectedUserCache {
+
+    private static final String REQUEST_ATTRIBUTE = ConnectedUserCache.class.getName() + ".user";
+
+    private final EntityManager entityManager;
+    private final ExpiringCache<String, Long> userIdsBySubject;
+
+    public ConnectedUserCache(EntityManager entityManager,
+                              @Value("${auth.connected-user.cache.ttl:30s}") Duration ttl) {
+        this.entityManager = entityManager;
+        this.userIdsBySubject = new ExpiringCache<>(ttl);
+    }
+
+    // Only returns the user while it is still managed by the current persistence context, never a detached copy
+    public User findInRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        User user = (User) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return user != null && this.entityManager.contains(user) ? user : null;
+    }
+
+    public Long findUserId(String subject) {
+        return this.userIdsBySubject.get(subject);
+    }
+
+    public void put(String subject, User user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        this.userIdsBySubject.put(subject, user.getId());
+    }
+
+    public void evict(String subject) {
+        this.userIdsBySubject.evict(subject);
+    }
+
+    public void evictUser(Long userId) {
+        this.userIdsBySubject.evictIf(userId::equals);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.connected-user.cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        this.userIdsBySubject.purgeExpired();
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.fernandocanabarro.booking_app_backend.services.auth;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ExpiringCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public ExpiringCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public V get(K key) {
+        Entry<V> entry = this.entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        this.entries.put(key, new Entry<>(value, System.nanoTime() + this.ttlNanos));
+    }
+
+    public void remove(K key) {
+        this.entries.remove(key);
+    }
+
+    // Evicted again after commit so a reader cannot re-cache a value loaded before the commit
+    public void evict(K key) {
+        this.evictNowAndAfterCommit(() -> this.entries.remove(key));
+    }
+
+    public void evictIf(Predicate<V> predicate) {
+        this.evictNowAndAfterCommit(() -> this.entries.values().removeIf(entry -> predicate.test(entry.value())));
+    }
+
+    public void purgeExpired() {
+        this.entries.values().removeIf(Entry::isExpired);
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - this.expiresAtNanos > 0;
+        }
+
+    }
+
+}
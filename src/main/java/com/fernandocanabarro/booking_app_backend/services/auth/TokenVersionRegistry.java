@@ -0,0 +1,46 @@
+package com.fernandocanabarro.booking_app_backend.services.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fernandocanabarro.booking_app_backend.repositories.UserRepository;
+
+@Component
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<Long, Integer> versionsByUserId;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+                                @Value("${auth.token-version.cache-ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.versionsByUserId = new ExpiringCache<>(ttl);
+    }
+
+    public Integer findCurrentVersion(Long userId) {
+        Integer cached = this.versionsByUserId.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        Integer version = this.userRepository.findTokenVersionById(userId).orElse(null);
+        if (version == null) {
+            this.versionsByUserId.remove(userId);
+            return null;
+        }
+        this.versionsByUserId.put(userId, version);
+        return version;
+    }
+
+    public void evict(Long userId) {
+        this.versionsByUserId.evict(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token-version.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        this.versionsByUserId.purgeExpired();
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.fernandocanabarro.booking_app_backend.services.availability;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.Booking;
+import com.fernandocanabarro.booking_app_backend.projections.BookingStayProjection;
+import com.fernandocanabarro.booking_app_backend.repositories.BookingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Per-instance, advisory index used to reject unavailable dates before touching the database. Other instances
+// never see this index, so ex_booking_room_stay_period (V10) stays the source of truth on save.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityIndex {
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, RoomOccupancy> occupancies = new ConcurrentHashMap<>();
+    private final Map<Long, Long> roomIdsByBookingId = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Map<Long, List<BookingStayProjection>> staysByRoomId = this.bookingRepository.findAllUnfinishedStays().stream()
+                .collect(Collectors.groupingBy(BookingStayProjection::getRoomId));
+            staysByRoomId.forEach((roomId, stays) -> this.occupancies.computeIfAbsent(roomId, id -> this.createOccupancy(id, stays)));
+        }
+        catch (DataAccessException e) {
+            log.warn("Could not warm up room availability index, rooms will be loaded from the database on first use", e);
+            this.occupancies.clear();
+            this.roomIdsByBookingId.clear();
+        }
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut, Long bookingIdToIgnore) {
+        return !this.occupancy(roomId).overlaps(checkIn, checkOut, bookingIdToIgnore);
+    }
+
+    public void register(Booking booking) {
+        Long bookingId = booking.getId();
+        Long roomId = booking.getRoom().getId();
+        Stay stay = new Stay(bookingId, booking.getCheckIn(), booking.getCheckOut());
+        boolean isFinished = booking.isFinished();
+        this.afterCommit(() -> {
+            if (isFinished) {
+                this.remove(bookingId);
+                return;
+            }
+            this.put(roomId, stay);
+        });
+    }
+
+    public void release(Booking booking) {
+        Long bookingId = booking.getId();
+        this.afterCommit(() -> this.remove(bookingId));
+    }
+
+    private RoomOccupancy occupancy(Long roomId) {
+        RoomOccupancy occupancy = this.occupancies.get(roomId);
+        if (occupancy != null) {
+            return occupancy;
+        }
+        List<BookingStayProjection> stays = this.bookingRepository.findUnfinishedStaysByRoomId(roomId);
+        return this.occupancies.computeIfAbsent(roomId, id -> this.createOccupancy(id, stays));
+    }
+
+    private RoomOccupancy createOccupancy(Long roomId, List<BookingStayProjection> stays) {
+        RoomOccupancy occupancy = new RoomOccupancy();
+        for (BookingStayProjection stay : stays) {
+            occupancy.put(new Stay(stay.getId(), stay.getCheckIn(), stay.getCheckOut()));
+            this.roomIdsByBookingId.put(stay.getId(), roomId);
+        }
+        return occupancy;
+    }
+
+    private void put(Long roomId, Stay stay) {
+        Long previousRoomId = this.roomIdsByBookingId.put(stay.bookingId(), roomId);
+        if (previousRoomId != null && !previousRoomId.equals(roomId)) {
+            RoomOccupancy previousOccupancy = this.occupancies.get(previousRoomId);
+            if (previousOccupancy != null) {
+                previousOccupancy.remove(stay.bookingId());
+            }
+        }
+        this.occupancy(roomId).put(stay);
+    }
+
+    private void remove(Long bookingId) {
+        Long roomId = this.roomIdsByBookingId.remove(bookingId);
+        if (roomId == null) {
+            return;
+        }
+        RoomOccupancy occupancy = this.occupancies.get(roomId);
+        if (occupancy != null) {
+            occupancy.remove(bookingId);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    record Stay(Long bookingId, LocalDate checkIn, LocalDate checkOut) {}
+
+    static class RoomOccupancy {
+
+        private static final Comparator<Stay> STAY_ORDER = Comparator.comparing(Stay::checkIn).thenComparing(Stay::bookingId);
+
+        private final NavigableSet<Stay> stays = new TreeSet<>(STAY_ORDER);
+        private final Map<Long, Stay> staysByBookingId = new HashMap<>();
+
+        synchronized void put(Stay stay) {
+            this.remove(stay.bookingId());
+            this.stays.add(stay);
+            this.staysByBookingId.put(stay.bookingId(), stay);
+        }
+
+        synchronized void remove(Long bookingId) {
+            Stay stay = this.staysByBookingId.remove(bookingId);
+            if (stay != null) {
+                this.stays.remove(stay);
+            }
+        }
+
+        // Stays of a room never overlap (V10), so check-outs are ordered like check-ins and only the last stay
+        // starting on or before checkOut can reach checkIn. At most two stays are visited when one is ignored.
+        synchronized boolean overlaps(LocalDate checkIn, LocalDate checkOut, Long bookingIdToIgnore) {
+            Stay to = new Stay(Long.MAX_VALUE, checkOut, null);
+            for (Stay stay : this.stays.headSet(to, true).descendingSet()) {
+                if (!Objects.equals(stay.bookingId(), bookingIdToIgnore)) {
+                    return !stay.checkOut().isBefore(checkIn);
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
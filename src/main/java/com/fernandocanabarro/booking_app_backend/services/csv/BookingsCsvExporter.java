@@ -0,0 +1,23 @@
+package com.fernandocanabarro.booking_app_backend.services.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fernandocanabarro.booking_app_backend.projections.BookingExportProjection;
+
+public class BookingsCsvExporter extends CsvExporter<BookingExportProjection> {
+
+    public BookingsCsvExporter(Stream<BookingExportProjection> bookings) {
+        super("bookings", new String[] { "id", "check_in", "check_out", "payment_type", "room_id", "price_per_night", 
+            "hotel_name", "total_price", "guest_name", "guest_cpf" }, bookings);
+    }
+
+    @Override
+    protected List<Object> toRow(BookingExportProjection booking) {
+        return Arrays.asList(booking.getId(), booking.getCheckIn(), booking.getCheckOut(), booking.getPaymentType(), 
+            booking.getRoomId(), booking.getPricePerNight(), booking.getHotelName(), booking.getTotalPrice(), 
+            booking.getGuestName(), booking.getGuestCpf());
+    }
+
+}
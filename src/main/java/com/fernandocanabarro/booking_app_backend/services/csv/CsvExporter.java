@@ -0,0 +1,46 @@
+package com.fernandocanabarro.booking_app_backend.services.csv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.supercsv.io.CsvListWriter;
+import org.supercsv.io.ICsvListWriter;
+import org.supercsv.prefs.CsvPreference;
+
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+
+public abstract class CsvExporter<T> {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final String name;
+    private final String[] headers;
+    private final Stream<T> rows;
+
+    protected CsvExporter(String name, String[] headers, Stream<T> rows) {
+        this.name = name;
+        this.headers = headers;
+        this.rows = rows;
+    }
+
+    protected abstract List<Object> toRow(T item);
+
+    public void export(OutputStream outputStream) {
+        try (ICsvListWriter writer = new CsvListWriter(new OutputStreamWriter(new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE), 
+                StandardCharsets.UTF_8), CsvPreference.STANDARD_PREFERENCE)) {
+            writer.writeHeader(this.headers);
+            for (T item : (Iterable<T>) this.rows::iterator) {
+                writer.write(this.toRow(item));
+            }
+        }
+        catch (IOException e) {
+            throw new BadRequestException("Error exporting " + this.name + " to CSV");
+        }
+    }
+
+}
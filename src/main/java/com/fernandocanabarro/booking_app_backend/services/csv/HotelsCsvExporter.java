@@ -0,0 +1,21 @@
+package com.fernandocanabarro.booking_app_backend.services.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fernandocanabarro.booking_app_backend.projections.HotelExportProjection;
+
+public class HotelsCsvExporter extends CsvExporter<HotelExportProjection> {
+
+    public HotelsCsvExporter(Stream<HotelExportProjection> hotels) {
+        super("hotels", new String[] { "id", "name", "room_quantity", "street", "number", "city", "zip_code", "state", "phone" }, hotels);
+    }
+
+    @Override
+    protected List<Object> toRow(HotelExportProjection hotel) {
+        return Arrays.asList(hotel.getId(), hotel.getName(), hotel.getRoomQuantity(), hotel.getStreet(), hotel.getNumber(), 
+            hotel.getCity(), hotel.getZipCode(), hotel.getState(), hotel.getPhone());
+    }
+
+}
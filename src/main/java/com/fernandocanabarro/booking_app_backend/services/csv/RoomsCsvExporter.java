@@ -0,0 +1,21 @@
+package com.fernandocanabarro.booking_app_backend.services.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fernandocanabarro.booking_app_backend.projections.RoomExportProjection;
+
+public class RoomsCsvExporter extends CsvExporter<RoomExportProjection> {
+
+    public RoomsCsvExporter(Stream<RoomExportProjection> rooms) {
+        super("rooms", new String[] { "id", "number", "floor", "type", "price_per_night", "description", "capacity", "hotel_id" }, rooms);
+    }
+
+    @Override
+    protected List<Object> toRow(RoomExportProjection room) {
+        return Arrays.asList(room.getId(), room.getNumber(), room.getFloor(), room.getType(), room.getPricePerNight(), 
+            room.getDescription(), room.getCapacity(), room.getHotelId());
+    }
+
+}
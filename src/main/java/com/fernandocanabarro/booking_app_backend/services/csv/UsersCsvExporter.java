@@ -0,0 +1,21 @@
+package com.fernandocanabarro.booking_app_backend.services.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fernandocanabarro.booking_app_backend.projections.UserExportProjection;
+
+public class UsersCsvExporter extends CsvExporter<UserExportProjection> {
+
+    public UsersCsvExporter(Stream<UserExportProjection> users) {
+        super("users", new String[] { "id", "full_name", "email", "phone", "cpf", "birth_date", "created_at", "roles", "hotel_id" }, users);
+    }
+
+    @Override
+    protected List<Object> toRow(UserExportProjection user) {
+        return Arrays.asList(user.getId(), user.getFullName(), user.getEmail(), user.getPhone(), user.getCpf(), 
+            user.getBirthDate(), user.getCreatedAt(), user.getAuthorities(), user.getWorkingHotelId());
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.fernandocanabarro.booking_app_backend.services.excel;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+public class ColumnWidthEstimator {
+
+    private static final int PADDING_CHARS = 2;
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+
+    private final int[] maxWidths;
+
+    public ColumnWidthEstimator(int columns) {
+        this.maxWidths = new int[columns];
+    }
+
+    public void track(int column, String value) {
+        this.track(column, value, 1.0);
+    }
+
+    public void track(int column, String value, double fontScale) {
+        int width = (int) Math.ceil(value.length() * fontScale);
+        if (width > this.maxWidths[column]) {
+            this.maxWidths[column] = width;
+        }
+    }
+
+    public int widthOf(int column) {
+        return Math.min(MAX_COLUMN_WIDTH, (this.maxWidths[column] + PADDING_CHARS) * 256);
+    }
+
+    public void apply(Sheet sheet) {
+        for (int i = 0; i < this.maxWidths.length; i++) {
+            sheet.setColumnWidth(i, this.widthOf(i));
+        }
+    }
+
+}
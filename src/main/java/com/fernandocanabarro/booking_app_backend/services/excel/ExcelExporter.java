@@ -0,0 +1,94 @@
+package com.fernandocanabarro.booking_app_backend.services.excel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+
+public abstract class ExcelExporter<T> {
+
+    private static final int ROW_WINDOW = 100;
+    private static final short HEADER_FONT_HEIGHT = 14;
+    private static final double HEADER_FONT_SCALE = HEADER_FONT_HEIGHT / 11.0;
+
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final String sheetName;
+    private final List<String> headers;
+    private final Stream<T> rows;
+    private final ColumnWidthEstimator columnWidths;
+
+    protected ExcelExporter(String sheetName, List<String> headers, Stream<T> rows) {
+        this.sheetName = sheetName;
+        this.headers = headers;
+        this.rows = rows;
+        this.columnWidths = new ColumnWidthEstimator(headers.size());
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = this.workbook.createSheet(sheetName);
+    }
+
+    protected abstract void writeRow(Row row, T item);
+
+    protected void writeCell(Row row, int column, Object value) {
+        Cell cell = row.createCell(column);
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        }
+        else {
+            cell.setCellValue(value.toString());
+        }
+        this.columnWidths.track(column, value.toString());
+    }
+
+    private void writeHeaderRow() {
+        Row row = this.sheet.createRow(0);
+        CellStyle style = this.workbook.createCellStyle();
+        Font font = this.workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints(HEADER_FONT_HEIGHT);
+        style.setFont(font);
+        for (int i = 0; i < this.headers.size(); i++) {
+            Cell cell = row.createCell(i);
+            cell.setCellValue(this.headers.get(i));
+            cell.setCellStyle(style);
+            this.columnWidths.track(i, this.headers.get(i), HEADER_FONT_SCALE);
+        }
+    }
+
+    private void writeDataRows() {
+        int rowCount = 1;
+        for (T item : (Iterable<T>) this.rows::iterator) {
+            this.writeRow(this.sheet.createRow(rowCount++), item);
+        }
+        this.columnWidths.apply(this.sheet);
+    }
+
+    public void export(OutputStream outputStream) {
+        try {
+            this.writeHeaderRow();
+            this.writeDataRows();
+            this.workbook.write(outputStream);
+            this.workbook.close();
+        }
+        catch (IOException e) {
+            throw new BadRequestException("Error exporting " + this.sheetName.toLowerCase() + " to Excel");
+        }
+        finally {
+            this.workbook.dispose();
+        }
+    }
+
+}
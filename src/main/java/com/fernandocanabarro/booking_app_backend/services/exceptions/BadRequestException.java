@@ -6,4 +6,8 @@ public class BadRequestException extends RuntimeException {
         super(message);
     }
 
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
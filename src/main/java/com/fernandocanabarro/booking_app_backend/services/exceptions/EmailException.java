@@ -2,8 +2,21 @@ package com.fernandocanabarro.booking_app_backend.services.exceptions;
 
 public class EmailException extends RuntimeException {
 
+    private final Integer statusCode;
+
     public EmailException(String message) {
         super(message);
+        this.statusCode = null;
+    }
+
+    public EmailException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public boolean isPayloadRejected() {
+        return this.statusCode != null && this.statusCode >= 400 && this.statusCode < 500
+            && this.statusCode != 401 && this.statusCode != 403 && this.statusCode != 408 && this.statusCode != 429;
     }
 
 }
@@ -0,0 +1,11 @@
+package com.fernandocanabarro.booking_app_backend.services.exceptions;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportJobStatusEnum;
+
+public class ReportNotReadyException extends RuntimeException {
+
+    public ReportNotReadyException(String jobId, ReportJobStatusEnum status) {
+        super("Report job " + jobId + " is " + status + " and has no file to download.");
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.fernandocanabarro.booking_app_backend.services.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+}
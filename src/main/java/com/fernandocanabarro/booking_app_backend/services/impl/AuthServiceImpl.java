@@ -38,16 +38,17 @@ import com.fernandocanabarro.booking_app_backend.repositories.ActivationCodeRepo
 import com.fernandocanabarro.booking_app_backend.repositories.PasswordRecoverRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoleRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.UserRepository;
+import com.fernandocanabarro.booking_app_backend.security.AuthenticatedUser;
 import com.fernandocanabarro.booking_app_backend.services.AuthService;
-import com.fernandocanabarro.booking_app_backend.services.EmailService;
+import com.fernandocanabarro.booking_app_backend.services.auth.ConnectedUserCache;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.AlreadyExistingPropertyException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ExpiredCodeException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.InvalidCurrentPasswordException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.UnauthorizedException;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxService;
 import com.fernandocanabarro.booking_app_backend.utils.UserUtils;
-import com.sendgrid.helpers.mail.Mail;
 
 import lombok.RequiredArgsConstructor;
 
@@ -62,9 +63,10 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtDecoder jwtDecoder;
     private final PasswordRecoverRepository passwordRecoverRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final UserUtils userUtils;
     private final ActivationCodeRepository activationCodeRepository;
+    private final ConnectedUserCache connectedUserCache;
 
     private final long SECONDS_IN_A_DAY = 86400L;
 
@@ -81,7 +83,14 @@ public class AuthServiceImpl implements AuthService {
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("booking-app-backend-auth-service")
                 .subject(authenticated.getName())
-                .claim("authorities", authenticated.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+                .claim(AuthenticatedUser.AUTHORITIES_CLAIM, authenticated.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+                .claim(AuthenticatedUser.USER_ID_CLAIM, user.getId())
+                .claim(AuthenticatedUser.TOKEN_VERSION_CLAIM, user.getTokenVersion())
+                .claims(userClaims -> {
+                    if (user.getWorkingHotel() != null) {
+                        userClaims.put(AuthenticatedUser.WORKING_HOTEL_ID_CLAIM, user.getWorkingHotel().getId());
+                    }
+                })
                 .issuedAt(Instant.now())
                 .expiresAt(Instant.now().plusSeconds(SECONDS_IN_A_DAY))
                 .build();
@@ -126,9 +135,8 @@ public class AuthServiceImpl implements AuthService {
             "link", "https://booking-ui.fernandocanabarrodev.tech/activate-account",
             "buttonText", "Ativar Conta"
         );
-        Mail mail = this.emailService.createEmail(user.getEmail(), 
+        this.emailOutboxService.enqueue(user.getEmail(), 
             "Ativação de Conta", variables, "auth-email");
-        this.emailService.sendEmail(mail);
     }
 
     private String createActivationCode(User user) {
@@ -166,12 +174,26 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public User getConnectedUser() {
+        User cachedUser = this.connectedUserCache.findInRequest();
+        if (cachedUser != null) {
+            return cachedUser;
+        }
         String email = this.userUtils.getConnectedUserEmail();
-        User user = this.userRepository.findByEmail(email)
+        Long userId = this.connectedUserCache.findUserId(email);
+        User user = Optional.ofNullable(userId)
+                .flatMap(this.userRepository::findById)
+                .filter(cached -> cached.getEmail().equals(email))
+                .or(() -> this.userRepository.findByEmail(email))
                 .orElseThrow(() -> new UnauthorizedException("User is not logged in"));
+        this.connectedUserCache.put(email, user);
         return user;
     }
 
+    @Override
+    public AuthenticatedUser getAuthenticatedUser() {
+        return this.userUtils.getAuthenticatedUser();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserResponseDTO getMe() {
@@ -201,6 +223,7 @@ public class AuthServiceImpl implements AuthService {
                 throw new AlreadyExistingPropertyException("E-mail");
             }
         }
+        this.connectedUserCache.evict(user.getEmail());
         user.setFullName(request.getFullName());
         user.setEmail(request.getEmail());
         user.setPhone(request.getPhone());
@@ -216,6 +239,7 @@ public class AuthServiceImpl implements AuthService {
         }
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         userRepository.save(user);
+        this.connectedUserCache.evictUser(user.getId());
     }
 
     @Override
@@ -241,9 +265,8 @@ public class AuthServiceImpl implements AuthService {
             "link", "https://booking-ui.fernandocanabarrodev.tech/reset-password",
             "buttonText", "Recuperar Senha"
         );
-        Mail mail = this.emailService.createEmail(user.getEmail(), 
+        this.emailOutboxService.enqueue(user.getEmail(), 
             "Recuperação de Senha", variables, "auth-email");
-        this.emailService.sendEmail(mail);
     }
 
     private String generateCode() {
@@ -274,6 +297,7 @@ public class AuthServiceImpl implements AuthService {
         User user = passwordRecover.get().getUser();
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         userRepository.save(user);
+        this.connectedUserCache.evictUser(user.getId());
     }
 
     @Override
@@ -290,12 +314,8 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void verifyIfConnectedUserHasAdminPermission(Long id) {
-        User connectedUser = this.getConnectedUser();
-        if (!connectedUser.getId().equals(id)) {
-            boolean hasAdminPermission = connectedUser.hasRole("ROLE_OPERATOR") || connectedUser.hasRole("ROLE_ADMIN");
-            if (hasAdminPermission) {
-                return;
-            }
+        AuthenticatedUser connectedUser = this.getAuthenticatedUser();
+        if (!id.equals(connectedUser.id()) && !connectedUser.hasAdminPermission()) {
             throw new ForbiddenException("User does not have permission to perform this action");
         }
     }
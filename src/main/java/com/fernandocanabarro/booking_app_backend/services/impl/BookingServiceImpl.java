@@ -1,10 +1,16 @@
 package com.fernandocanabarro.booking_app_backend.services.impl;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +30,8 @@ import com.fernandocanabarro.booking_app_backend.models.entities.Booking;
 import com.fernandocanabarro.booking_app_backend.models.entities.CartaoPayment;
 import com.fernandocanabarro.booking_app_backend.models.entities.CreditCard;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
+import com.fernandocanabarro.booking_app_backend.models.enums.PaymentTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.BookingExportProjection;
 import com.fernandocanabarro.booking_app_backend.projections.BookingStatsSummaryProjection;
 import com.fernandocanabarro.booking_app_backend.models.entities.Payment;
 import com.fernandocanabarro.booking_app_backend.models.entities.Room;
@@ -36,17 +44,20 @@ import com.fernandocanabarro.booking_app_backend.repositories.RoomRatingReposito
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRepository;
 import com.fernandocanabarro.booking_app_backend.services.AuthService;
 import com.fernandocanabarro.booking_app_backend.services.BookingService;
-import com.fernandocanabarro.booking_app_backend.services.EmailService;
+import com.fernandocanabarro.booking_app_backend.services.availability.RoomAvailabilityIndex;
+import com.fernandocanabarro.booking_app_backend.services.csv.BookingsCsvExporter;
+import com.fernandocanabarro.booking_app_backend.services.excel.BookingsExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.RoomIsUnavailableForBookingException;
+import com.fernandocanabarro.booking_app_backend.services.lock.BookingLockService;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxService;
 import com.fernandocanabarro.booking_app_backend.services.strategy.BoletoPaymentStrategy;
 import com.fernandocanabarro.booking_app_backend.services.strategy.CartaoPaymentStrategy;
 import com.fernandocanabarro.booking_app_backend.services.strategy.DinheiroPaymentStrategy;
 import com.fernandocanabarro.booking_app_backend.services.strategy.PaymentStrategy;
 import com.fernandocanabarro.booking_app_backend.services.strategy.PixPaymentStrategy;
-import com.sendgrid.helpers.mail.Mail;
 
 import lombok.RequiredArgsConstructor;
 
@@ -54,15 +65,20 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final String ROOM_STAY_PERIOD_CONSTRAINT = "ex_booking_room_stay_period";
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+
     private final BookingRepository bookingRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final PaymentRepository paymentRepository;
     private final CreditCardRepository creditCardRepository;
     private final AuthService authService;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final HotelRepository hotelRepository;
     private final RoomRatingRepository roomRatingRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final BookingLockService bookingLockService;
     
     @Override
     @Transactional(readOnly = true)
@@ -70,6 +86,26 @@ public class BookingServiceImpl implements BookingService {
         return this.bookingRepository.findAll().stream().map(BookingMapper::convertEntityToDetailResponse).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToExcel(OutputStream outputStream) {
+        try (Stream<BookingExportProjection> rows = this.bookingRepository.streamAllForExport(null, null, null, null, null, null, null, null)) {
+            new BookingsExcelExporter(rows).export(outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToCsv(OutputStream outputStream, BigDecimal minAmount, BigDecimal maxAmount, Long hotelId, Long roomId, 
+        Long userId, LocalDate minCheckInDate, LocalDate maxCheckOutDate, List<String> paymentTypes) {
+        List<PaymentTypeEnum> types = paymentTypes == null || paymentTypes.isEmpty() ? null 
+            : paymentTypes.stream().map(this::convertPaymentTypeParam).toList();
+        try (Stream<BookingExportProjection> rows = this.bookingRepository.streamAllForExport(minAmount, maxAmount, hotelId, roomId, 
+                userId, minCheckInDate, maxCheckOutDate, types)) {
+            new BookingsCsvExporter(rows).export(outputStream);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<BookingResponseDTO> findAllPageable(Pageable pageable, LocalDate checkIn, LocalDate checkOut, 
@@ -97,7 +133,7 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public Page<BookingDetailResponseDTO> findAllBookingsByUser(Long userId, Pageable pageable, boolean isSelfUser) {
         Page<Booking> response = isSelfUser
-            ? this.bookingRepository.findByUserId(authService.getConnectedUser().getId(), pageable)
+            ? this.bookingRepository.findByUserId(authService.getAuthenticatedUser().id(), pageable)
             : this.bookingRepository.findByUserId(userId, pageable);
         return response.map(BookingMapper::convertEntityToDetailResponse);
     }
@@ -121,6 +157,7 @@ public class BookingServiceImpl implements BookingService {
         Room room = this.roomRepository.findById(request.getRoomId())
             .orElseThrow(() -> new ResourceNotFoundException("Room", request.getRoomId()));
         this.verifyIfBookingGuestsQuantityIsNotGreaterThanRoomCapacity(request, room);
+        this.bookingLockService.lockRooms(room.getId());
         this.validateRoomAvailability(request, room, null);
         User user = this.getUserForBookingLogic(isSelfBooking, request);
         Booking entity = BookingMapper.convertRequestToEntity(request, room, user);
@@ -129,11 +166,21 @@ public class BookingServiceImpl implements BookingService {
         this.setCartaoPaymentDataWhenPaymentIsOnlineAndWithCreditCardAndIsSelfBooking(payment, request.getPayment(), user, isSelfBooking);
         payment = this.paymentRepository.save(payment);
         entity.setPayment(payment);
-        this.bookingRepository.save(entity);
+        this.saveBookingOrThrowWhenRoomIsUnavailable(entity);
+        this.roomAvailabilityIndex.register(entity);
         this.sendBookingSummaryEmail(entity, user);
         this.sendBookingBoletoEmailWhenPaymentIsBoleto(entity, user, payment instanceof BoletoPayment);
     }
 
+    private PaymentTypeEnum convertPaymentTypeParam(String paymentType) {
+        try {
+            return PaymentTypeEnum.valueOf(paymentType.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid payment type: " + paymentType);
+        }
+    }
+
     private void validateIfCheckInAndCheckOutDatesAreValid(LocalDate checkIn, LocalDate checkOut, boolean isCreateBooking) {
         if (checkOut.isBefore(checkIn)) {
             throw new BadRequestException("Check-out date cannot be before check-in date.");
@@ -178,7 +225,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private void validateRoomAvailability(BaseBookingRequestDTO request, Room room, Long bookingIdToIgnore) {
-        if (!room.isAvalableToBook(request.getCheckIn(), request.getCheckOut(), bookingIdToIgnore)) {
+        if (!this.roomAvailabilityIndex.isAvailable(room.getId(), request.getCheckIn(), request.getCheckOut(), bookingIdToIgnore)) {
             throw new RoomIsUnavailableForBookingException(room.getId(), request.getCheckIn(), request.getCheckOut());
         }
     }
@@ -230,8 +277,7 @@ public class BookingServiceImpl implements BookingService {
             "Sua reserva foi aprovada! Clique no botão abaixo para visualizar/imprimir o resumo da sua reserva:",
             "https://booking-api.fernandocanabarrodev.tech/api/v1/bookings/"  + booking.getId() + "/pdf"
         );
-        Mail mail = this.emailService.createEmail(user.getEmail(), "Resumo da Reserva", variables, "booking-email");
-        this.emailService.sendEmail(mail);
+        this.emailOutboxService.enqueue(user.getEmail(), "Resumo da Reserva", variables, "booking-email");
     }
 
     private void sendBookingBoletoEmailWhenPaymentIsBoleto(Booking booking, User user, boolean isBoletoPayment) {
@@ -242,8 +288,7 @@ public class BookingServiceImpl implements BookingService {
                 "O seu pagamento foi aprovado! Clique no botão abaixo para visualizar/imprimir o boleto da sua reserva:",
                 "https://booking-api.fernandocanabarrodev.tech/api/v1/bookings/"  + booking.getId() + "/boleto/pdf"
             );
-            Mail mail = this.emailService.createEmail(user.getEmail(), "Boleto da Reserva", variables, "booking-email");
-            this.emailService.sendEmail(mail);
+            this.emailOutboxService.enqueue(user.getEmail(), "Boleto da Reserva", variables, "booking-email");
         }
     }
 
@@ -264,7 +309,8 @@ public class BookingServiceImpl implements BookingService {
         Booking entity = this.bookingRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Booking", id));
         this.validateBookingOwnership(entity, user, isSelfBooking);
-        if (request.getRoomId() == entity.getRoom().getId()) {
+        this.bookingLockService.lockRooms(entity.getRoom().getId(), request.getRoomId());
+        if (Objects.equals(request.getRoomId(), entity.getRoom().getId())) {
             this.verifyIfBookingGuestsQuantityIsNotGreaterThanRoomCapacity(request, entity.getRoom());
             this.validateRoomAvailability(request, entity.getRoom(), entity.getId());
         }
@@ -272,7 +318,35 @@ public class BookingServiceImpl implements BookingService {
         this.updateBookingRoomIfNeeded(entity, request);
         this.updateBookingUserIfNeeded(entity, request, user, isSelfBooking);
         this.updateBookingStatusIfIsAdminUpdateRequest(request, entity, isSelfBooking);
-        this.bookingRepository.save(entity);
+        this.saveBookingOrThrowWhenRoomIsUnavailable(entity);
+        this.roomAvailabilityIndex.register(entity);
+    }
+
+    private void saveBookingOrThrowWhenRoomIsUnavailable(Booking entity) {
+        try {
+            this.bookingRepository.save(entity);
+            this.bookingRepository.flush();
+        }
+        catch (DataIntegrityViolationException e) {
+            if (this.isRoomStayPeriodViolation(e)) {
+                throw new RoomIsUnavailableForBookingException(entity.getRoom().getId(), entity.getCheckIn(), entity.getCheckOut());
+            }
+            throw e;
+        }
+    }
+
+    private boolean isRoomStayPeriodViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && ROOM_STAY_PERIOD_CONSTRAINT.equals(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void validateBookingOwnership(Booking entity, User user, boolean isSelfBooking) {
@@ -339,6 +413,7 @@ public class BookingServiceImpl implements BookingService {
             .orElseThrow(() -> new ResourceNotFoundException("Booking", id));
         this.authService.verifyIfConnectedUserHasAdminPermission(entity.getUser().getId());
         this.bookingRepository.delete(entity);
+        this.roomAvailabilityIndex.release(entity);
     }
 
     @Override
@@ -28,8 +28,7 @@ public class CreditCardServiceImpl implements CreditCardService {
     @Override
     @Transactional(readOnly = true)
     public Page<CreditCardResponseDTO> getConnectedUserCreditCards(Pageable pageable) {
-        User user = this.authService.getConnectedUser();
-        return this.creditCardRepository.findByUser(user.getId(), pageable)
+        return this.creditCardRepository.findByUser(this.authService.getAuthenticatedUser().id(), pageable)
             .map(CreditCardMapper::convertEntityToResponseDTO);
     }
 
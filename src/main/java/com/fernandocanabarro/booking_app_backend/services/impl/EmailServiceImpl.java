@@ -1,15 +1,20 @@
 package com.fernandocanabarro.booking_app_backend.services.impl;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.springframework.web.util.HtmlUtils;
 
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
 import com.fernandocanabarro.booking_app_backend.services.EmailService;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.EmailException;
+import com.fernandocanabarro.booking_app_backend.services.template.EmailTemplateRenderer;
 import com.sendgrid.Method;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
@@ -17,7 +22,10 @@ import com.sendgrid.SendGrid;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -26,9 +34,11 @@ import lombok.RequiredArgsConstructor;
 public class EmailServiceImpl implements EmailService {
 
     private final SendGrid sendGrid;
-    private final SpringTemplateEngine templateEngine;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final MeterRegistry meterRegistry;
 
     private final String EMAIL_FROM = "ahnertfernando499@gmail.com";
+    private final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
 
     @Override
     public void sendEmail(Mail mail) {
@@ -39,7 +49,7 @@ public class EmailServiceImpl implements EmailService {
             request.setBody(mail.build());
             Response response = sendGrid.api(request);
             if (response.getStatusCode() >= 400) {
-                throw new EmailException("Error sending email: " + response.getBody());
+                throw new EmailException("Error sending email: " + response.getBody(), response.getStatusCode());
             }
         }
         catch (IOException e) {
@@ -49,9 +59,7 @@ public class EmailServiceImpl implements EmailService {
 
     @Override
     public Mail createEmail(String emailTo, String subject, Map<String, Object> variables, String templateName) {
-        Context context = new Context();
-        context.setVariables(variables);
-        String content = templateEngine.process(templateName, context);
+        String content = emailTemplateRenderer.render(templateName, variables);
         Content emailContent = new Content("text/html", content);
 
         Email to = new Email(emailTo);
@@ -59,6 +67,78 @@ public class EmailServiceImpl implements EmailService {
         return new Mail(from, subject, to, emailContent);
     }
 
+    @Override
+    public Map<Long, String> sendBatch(String templateName, List<EmailOutboxMessage> messages) {
+        Map<Long, String> failures = new HashMap<>();
+        for (int start = 0; start < messages.size(); start += MAX_PERSONALIZATIONS_PER_REQUEST) {
+            List<EmailOutboxMessage> chunk = messages.subList(start, Math.min(start + MAX_PERSONALIZATIONS_PER_REQUEST, messages.size()));
+            Timer.Sample sample = Timer.start(this.meterRegistry);
+            try {
+                this.sendEmail(this.createBatchEmail(templateName, chunk));
+            }
+            catch (EmailException e) {
+                this.meterRegistry.counter("email.batch.failures", "template", templateName).increment();
+                if (!e.isPayloadRejected()) {
+                    this.recordUnsent(messages.subList(start, messages.size()), e, failures);
+                    break;
+                }
+                failures.putAll(this.sendOneByOne(templateName, chunk));
+            }
+            finally {
+                sample.stop(this.meterRegistry.timer("email.batch.latency", "template", templateName));
+                this.meterRegistry.summary("email.batch.size", "template", templateName).record(chunk.size());
+            }
+        }
+        return failures;
+    }
+
+    private Mail createBatchEmail(String templateName, List<EmailOutboxMessage> messages) {
+        Set<String> variableNames = new LinkedHashSet<>();
+        messages.forEach(message -> variableNames.addAll(message.getVariables().keySet()));
+        Map<String, Object> placeholders = new HashMap<>();
+        variableNames.forEach(name -> placeholders.put(name, this.placeholder(name)));
+        Mail mail = new Mail();
+        mail.setFrom(new Email(EMAIL_FROM, "Ybanté Hotéis"));
+        mail.setSubject(messages.get(0).getSubject());
+        mail.addContent(new Content("text/html", emailTemplateRenderer.render(templateName, placeholders)));
+        for (EmailOutboxMessage message : messages) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(message.getEmailTo()));
+            personalization.setSubject(message.getSubject());
+            variableNames.forEach(name -> {
+                Object value = message.getVariables().get(name);
+                personalization.addSubstitution(this.placeholder(name), value == null ? "" : HtmlUtils.htmlEscape(value.toString(), "UTF-8"));
+            });
+            mail.addPersonalization(personalization);
+        }
+        return mail;
+    }
 
+    private Map<Long, String> sendOneByOne(String templateName, List<EmailOutboxMessage> messages) {
+        Map<Long, String> failures = new HashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            EmailOutboxMessage message = messages.get(i);
+            try {
+                this.sendEmail(this.createEmail(message.getEmailTo(), message.getSubject(), message.getVariables(), templateName));
+            }
+            catch (EmailException e) {
+                if (!e.isPayloadRejected()) {
+                    this.recordUnsent(messages.subList(i, messages.size()), e, failures);
+                    break;
+                }
+                this.meterRegistry.counter("email.batch.rejected", "template", templateName).increment();
+                failures.put(message.getId(), e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    private void recordUnsent(List<EmailOutboxMessage> messages, EmailException e, Map<Long, String> failures) {
+        messages.forEach(message -> failures.put(message.getId(), e.getMessage()));
+    }
+
+    private String placeholder(String variableName) {
+        return "{{" + variableName + "}}";
+    }
 
 }
@@ -1,6 +1,9 @@
 package com.fernandocanabarro.booking_app_backend.services.impl;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
@@ -8,7 +11,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.fernandocanabarro.booking_app_backend.mappers.HotelMapper;
 import com.fernandocanabarro.booking_app_backend.mappers.RoomMapper;
@@ -19,14 +21,18 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelSearchRe
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
 import com.fernandocanabarro.booking_app_backend.models.entities.Image;
-import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
+import com.fernandocanabarro.booking_app_backend.models.entities.Room;
+import com.fernandocanabarro.booking_app_backend.projections.HotelExportProjection;
+import com.fernandocanabarro.booking_app_backend.projections.HotelListingProjection;
 import com.fernandocanabarro.booking_app_backend.repositories.HotelRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.ImageRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRepository;
 import com.fernandocanabarro.booking_app_backend.services.HotelService;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
+import com.fernandocanabarro.booking_app_backend.services.csv.HotelsCsvExporter;
+import com.fernandocanabarro.booking_app_backend.services.excel.HotelExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
-import com.fernandocanabarro.booking_app_backend.utils.FileUtils;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,6 +43,7 @@ public class HotelServiceImpl implements HotelService {
     private final HotelRepository hotelRepository;
     private final RoomRepository roomRepository;
     private final ImageRepository imageRepository;
+    private final ImageService imageService;
 
     @Override
     @Transactional(readOnly = true)
@@ -49,19 +56,41 @@ public class HotelServiceImpl implements HotelService {
     @Override
     @Transactional(readOnly = true)
     public List<HotelResponseDTO> findAll() {
-        return this.hotelRepository.findAll().stream().map(HotelMapper::convertEntityToResponse).toList();
+        List<HotelListingProjection> hotels = this.hotelRepository.findAllListings();
+        Map<Long, Long> cardImageIds = this.imageService.findHotelCardImageIds(hotels.stream().map(HotelListingProjection::getId).toList());
+        return hotels.stream().map(hotel -> HotelMapper.convertListingToResponse(hotel, cardImageIds.get(hotel.getId()))).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToExcel(OutputStream outputStream) {
+        try (Stream<HotelExportProjection> rows = this.hotelRepository.streamAllForExport()) {
+            new HotelExcelExporter(rows).export(outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToCsv(OutputStream outputStream) {
+        try (Stream<HotelExportProjection> rows = this.hotelRepository.streamAllForExport()) {
+            new HotelsCsvExporter(rows).export(outputStream);
+        }
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<HotelResponseDTO> findAllPageable(Pageable pageable, String name) {
-        return this.hotelRepository.findAllByNameContainingIgnoreCase(name, pageable).map(HotelMapper::convertEntityToResponse);
+        Page<HotelListingProjection> hotels = this.hotelRepository.findListingsByName(name, pageable);
+        Map<Long, Long> cardImageIds = this.imageService.findHotelCardImageIds(hotels.getContent().stream().map(HotelListingProjection::getId).toList());
+        return hotels.map(hotel -> HotelMapper.convertListingToResponse(hotel, cardImageIds.get(hotel.getId())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RoomResponseDTO> findRoomsByHotelId(Long hotelId, Pageable pageable) {
-        return this.roomRepository.findByHotelId(hotelId, pageable).map(RoomMapper::convertEntityToResponse);
+        Page<Room> rooms = this.roomRepository.findByHotelId(hotelId, pageable);
+        Map<Long, Long> cardImageIds = this.imageService.findRoomCardImageIds(rooms.getContent().stream().map(Room::getId).toList());
+        return rooms.map(room -> RoomMapper.convertEntityToResponse(room, cardImageIds.get(room.getId())));
     }
 
     @Override
@@ -74,35 +103,24 @@ public class HotelServiceImpl implements HotelService {
 
     @Override
     @Transactional
-    public void create(HotelRequestDTO request, List<MultipartFile> images) {
+    public void create(HotelRequestDTO request, List<Image> images) {
         Hotel entity = HotelMapper.convertRequestToEntity(request);
-        addImagesToHotel(entity, images);
-        this.hotelRepository.save(entity);
+        this.addImagesToHotel(this.hotelRepository.save(entity), images);
     }
 
-    private void addImagesToHotel(Hotel hotel, List<MultipartFile> images) {
-        for (MultipartFile file : images) {
-            if (file != null) {
-                String base64Image = FileUtils.generateBase64Image(file);
-                Image image = Image.builder()
-                    .base64Image(base64Image)
-                    .imageType(ImageTypeEnum.HOTEL)
-                    .hotel(hotel)
-                    .build();
-                image = this.imageRepository.save(image);
-                hotel.getImages().add(image);
-            }
-        }
+    private void addImagesToHotel(Hotel hotel, List<Image> images) {
+        images.forEach(image -> image.setHotel(hotel));
+        this.imageService.insertAll(images);
     }
 
     @Override
     @Transactional
-    public void update(Long id, HotelRequestDTO request, List<MultipartFile> images) {
+    public void update(Long id, HotelRequestDTO request, List<Image> images) {
         Hotel hotel = this.hotelRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Hotel", id));
         HotelMapper.updateEntity(hotel, request);
         if (images != null) {
-            addImagesToHotel(hotel, images);
+            this.addImagesToHotel(hotel, images);
         }
         this.hotelRepository.save(hotel);
     }
@@ -128,7 +146,7 @@ public class HotelServiceImpl implements HotelService {
             if (!this.imageRepository.existsById(id)) {
                 throw new ResourceNotFoundException("Image", id);
             }
-            this.imageRepository.deleteById(id);
+            this.imageService.delete(id);
         });
     }
 
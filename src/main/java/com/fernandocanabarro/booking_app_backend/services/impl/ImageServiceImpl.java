@@ -0,0 +1,223 @@
+package com.fernandocanabarro.booking_app_backend.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+import com.fernandocanabarro.booking_app_backend.projections.CardImageProjection;
+import com.fernandocanabarro.booking_app_backend.repositories.ImageRepository;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ImageGeneratingException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobStorage;
+import com.fernandocanabarro.booking_app_backend.services.storage.ImageVariantGenerator;
+import com.fernandocanabarro.booking_app_backend.services.storage.StoredBlob;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Service
+public class ImageServiceImpl implements ImageService {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO images (storage_key, thumbnail_key, card_key, content_type, size_bytes, image_type, hotel_id, room_id)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final Set<String> RASTER_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/webp", "image/gif");
+
+    private final ImageRepository imageRepository;
+    private final BlobStorage blobStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final String cacheControl;
+    private final String fallbackCacheControl;
+    private final ExecutorService ingestionExecutor;
+
+    public ImageServiceImpl(ImageRepository imageRepository, BlobStorage blobStorage, ImageVariantGenerator imageVariantGenerator,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${image.cache.max-age:365d}") Duration cacheMaxAge,
+                            @Value("${image.ingestion.threads:4}") int ingestionThreads) {
+        this.imageRepository = imageRepository;
+        this.blobStorage = blobStorage;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().immutable().getHeaderValue();
+        this.fallbackCacheControl = CacheControl.noCache().cachePublic().getHeaderValue();
+        this.ingestionExecutor = Executors.newFixedThreadPool(Math.max(1, ingestionThreads));
+    }
+
+    @Override
+    public List<Image> storeAll(List<MultipartFile> files, ImageTypeEnum imageType) {
+        List<Future<Image>> uploads = files.stream()
+            .filter(Objects::nonNull)
+            .map(file -> this.ingestionExecutor.submit(() -> this.store(file, imageType)))
+            .toList();
+        List<Image> images = new ArrayList<>(uploads.size());
+        try {
+            for (Future<Image> upload : uploads) {
+                images.add(upload.get());
+            }
+        }
+        catch (InterruptedException e) {
+            uploads.forEach(upload -> upload.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ImageGeneratingException();
+        }
+        catch (ExecutionException e) {
+            uploads.forEach(upload -> upload.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ImageGeneratingException();
+        }
+        return images;
+    }
+
+    @Override
+    public void insertAll(List<Image> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, images, images.size(), (ps, image) -> {
+            ps.setString(1, image.getStorageKey());
+            ps.setString(2, image.getThumbnailKey());
+            ps.setString(3, image.getCardKey());
+            ps.setString(4, image.getContentType());
+            ps.setObject(5, image.getSizeBytes(), Types.BIGINT);
+            ps.setString(6, image.getImageType().name());
+            ps.setObject(7, image.getHotel() != null ? image.getHotel().getId() : null, Types.BIGINT);
+            ps.setObject(8, image.getRoom() != null ? image.getRoom().getId() : null, Types.BIGINT);
+        });
+    }
+
+    private Image store(MultipartFile file, ImageTypeEnum imageType) {
+        String contentType = normalizeContentType(file.getContentType());
+        if (!RASTER_CONTENT_TYPES.contains(contentType)) {
+            throw new BadRequestException("File " + file.getOriginalFilename() + " is not a JPEG, PNG, WebP or GIF image.");
+        }
+        StoredBlob blob;
+        try (InputStream content = file.getInputStream()) {
+            blob = this.blobStorage.store(content);
+        }
+        catch (IOException e) {
+            throw new ImageGeneratingException();
+        }
+        Map<ImageVariantEnum, String> variants = this.findVariants(blob.key(), contentType);
+        return Image.builder()
+            .storageKey(blob.key())
+            .thumbnailKey(variants.get(ImageVariantEnum.THUMBNAIL))
+            .cardKey(variants.get(ImageVariantEnum.CARD))
+            .contentType(contentType)
+            .sizeBytes(blob.size())
+            .imageType(imageType)
+            .build();
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int separator = contentType.indexOf(';');
+        return (separator < 0 ? contentType : contentType.substring(0, separator)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Map<ImageVariantEnum, String> findVariants(String storageKey, String contentType) {
+        return this.imageRepository.findFirstByStorageKeyAndCardKeyNotNull(storageKey)
+            .map(image -> Map.of(ImageVariantEnum.THUMBNAIL, image.getThumbnailKey(), ImageVariantEnum.CARD, image.getCardKey()))
+            .orElseGet(() -> this.imageVariantGenerator.generate(storageKey, contentType));
+    }
+
+    @Override
+    public Map<Long, Long> findRoomCardImageIds(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        return this.toCardImageIds(this.imageRepository.findCardImagesByRoomIds(roomIds));
+    }
+
+    @Override
+    public Map<Long, Long> findHotelCardImageIds(Collection<Long> hotelIds) {
+        if (hotelIds.isEmpty()) {
+            return Map.of();
+        }
+        return this.toCardImageIds(this.imageRepository.findCardImagesByHotelIds(hotelIds));
+    }
+
+    private Map<Long, Long> toCardImageIds(List<CardImageProjection> cardImages) {
+        return cardImages.stream()
+            .collect(Collectors.toMap(CardImageProjection::getOwnerId, CardImageProjection::getImageId));
+    }
+
+    @Override
+    public void delete(Long id) {
+        this.imageRepository.deleteById(id);
+    }
+
+    @Override
+    public void writeContent(Long id, ImageVariantEnum variant, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Image image = this.imageRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Image", id));
+        String key = switch (variant) {
+            case THUMBNAIL -> image.getThumbnailKey();
+            case CARD -> image.getCardKey();
+            case ORIGINAL -> null;
+        };
+        String contentType = ImageVariantGenerator.VARIANT_CONTENT_TYPE;
+        String cacheControl = this.cacheControl;
+        if (key == null) {
+            key = image.getStorageKey();
+            contentType = image.getContentType();
+            if (variant != ImageVariantEnum.ORIGINAL) {
+                cacheControl = this.fallbackCacheControl;
+            }
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + key + "\"")) {
+            return;
+        }
+        response.setContentType(contentType);
+        if (!RASTER_CONTENT_TYPES.contains(normalizeContentType(contentType))) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline().build().toString());
+            response.setHeader("Content-Security-Policy", "sandbox");
+        }
+        try (FileChannel channel = this.blobStorage.open(key)) {
+            response.setContentLengthLong(channel.size());
+            Channels.newInputStream(channel).transferTo(response.getOutputStream());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.ingestionExecutor.shutdownNow();
+    }
+
+}
@@ -1,17 +1,18 @@
 package com.fernandocanabarro.booking_app_backend.services.impl;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.fernandocanabarro.booking_app_backend.mappers.RoomMapper;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomDetailResponseDTO;
@@ -24,17 +25,19 @@ import com.fernandocanabarro.booking_app_backend.models.entities.Image;
 import com.fernandocanabarro.booking_app_backend.models.entities.Room;
 import com.fernandocanabarro.booking_app_backend.models.entities.RoomRating;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
-import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.RoomExportProjection;
 import com.fernandocanabarro.booking_app_backend.repositories.HotelRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.ImageRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRatingRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRepository;
 import com.fernandocanabarro.booking_app_backend.services.AuthService;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
 import com.fernandocanabarro.booking_app_backend.services.RoomService;
+import com.fernandocanabarro.booking_app_backend.services.csv.RoomsCsvExporter;
+import com.fernandocanabarro.booking_app_backend.services.excel.RoomsExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
-import com.fernandocanabarro.booking_app_backend.utils.FileUtils;
 
 import lombok.RequiredArgsConstructor;
 
@@ -45,13 +48,32 @@ public class RoomServiceImpl implements RoomService {
     private final RoomRepository roomRepository;
     private final HotelRepository hotelRepository;
     private final ImageRepository imageRepository;
+    private final ImageService imageService;
     private final RoomRatingRepository roomRatingRepository;
     private final AuthService authService;
 
     @Override
     @Transactional(readOnly = true)
     public List<RoomResponseDTO> findAll() {
-        return this.roomRepository.findAll().stream().map(RoomMapper::convertEntityToResponse).toList();
+        List<Room> rooms = this.roomRepository.findAll();
+        Map<Long, Long> cardImageIds = this.findCardImageIds(rooms);
+        return rooms.stream().map(room -> RoomMapper.convertEntityToResponse(room, cardImageIds.get(room.getId()))).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToExcel(OutputStream outputStream) {
+        try (Stream<RoomExportProjection> rows = this.roomRepository.streamAllForExport()) {
+            new RoomsExcelExporter(rows).export(outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToCsv(OutputStream outputStream) {
+        try (Stream<RoomExportProjection> rows = this.roomRepository.streamAllForExport()) {
+            new RoomsCsvExporter(rows).export(outputStream);
+        }
     }
     
     @Override
@@ -61,19 +83,22 @@ public class RoomServiceImpl implements RoomService {
         minPrice = minPrice != null ? minPrice : roomRepository.findMinPricePerNight();
         maxPrice = maxPrice != null ? maxPrice : roomRepository.findMaxPricePerNight();
         types = types == null || types.isEmpty() ? null : types;                                       
-        Page<Room> page = this.roomRepository.findByTypeOrCapacityOrPricePerNightOrByHotelCity(types, capacity, minPrice, maxPrice, city, hotelId, pageable);
-        List<RoomResponseDTO> roomResponseDTOs = page.getContent().stream()
-            .filter(room -> room.isAvalableToBook(checkIn, checkOut, null))
-            .map(RoomMapper::convertEntityToResponse)
-            .toList();
-        return new PageImpl<RoomResponseDTO>(roomResponseDTOs, pageable, roomResponseDTOs.size());
+        Page<Room> rooms = this.roomRepository.findAvailableByTypeOrCapacityOrPricePerNightOrByHotelCity(types, capacity, minPrice, maxPrice, 
+                city, hotelId, checkIn, checkOut, pageable);
+        Map<Long, Long> cardImageIds = this.findCardImageIds(rooms.getContent());
+        return rooms.map(room -> RoomMapper.convertEntityToResponse(room, cardImageIds.get(room.getId())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RoomResponseDTO> findAllPageable(Pageable pageable) {
-        return this.roomRepository.findAll(pageable)
-            .map(RoomMapper::convertEntityToResponse);
+        Page<Room> rooms = this.roomRepository.findAll(pageable);
+        Map<Long, Long> cardImageIds = this.findCardImageIds(rooms.getContent());
+        return rooms.map(room -> RoomMapper.convertEntityToResponse(room, cardImageIds.get(room.getId())));
+    }
+
+    private Map<Long, Long> findCardImageIds(List<Room> rooms) {
+        return this.imageService.findRoomCardImageIds(rooms.stream().map(Room::getId).toList());
     }
 
     @Override
@@ -86,46 +111,37 @@ public class RoomServiceImpl implements RoomService {
 
     @Override
     @Transactional
-    public void create(RoomRequestDTO request, List<MultipartFile> images) {
+    public void create(RoomRequestDTO request, List<Image> images) {
         Hotel hotel = this.hotelRepository.findById(request.getHotelId())
             .orElseThrow(() -> new ResourceNotFoundException("Hotel", request.getHotelId()));
-        User user = this.authService.getConnectedUser();
-        if (!user.isAbleToCreateOrUpdateRoom(hotel.getId())) {
+        if (!this.authService.getAuthenticatedUser().isAbleToCreateOrUpdateRoom(hotel.getId())) {
             throw new ForbiddenException("Operator is not allowed to create a room in this hotel. The operator can only create a room in the hotel he works at");
         }
         Room entity = RoomMapper.convertRequestToEntity(request, hotel);
-        this.addImagesToRoom(entity, images);
-        this.roomRepository.save(entity);
-    }
-
-    private void addImagesToRoom(Room room, List<MultipartFile> images) {
-        for (MultipartFile file : images) {
-            if (file != null) {
-                String base64Image = FileUtils.generateBase64Image(file);
-                Image image = Image.builder()
-                    .base64Image(base64Image)
-                    .imageType(ImageTypeEnum.ROOM)
-                    .room(room)
-                    .build();
-                image = this.imageRepository.save(image);
-                room.getImages().add(image);
-            }
-        }
+        this.addImagesToRoom(this.roomRepository.save(entity), images);
+    }
+
+    private void addImagesToRoom(Room room, List<Image> images) {
+        images.forEach(image -> image.setRoom(room));
+        this.imageService.insertAll(images);
     }
 
     @Override
     @Transactional
-    public void update(Long id, RoomRequestDTO request, List<MultipartFile> images) {
+    public void update(Long id, RoomRequestDTO request, List<Image> images) {
         Room room = this.roomRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Room", id));
-        User user = this.authService.getConnectedUser();
-        if (!user.isAbleToCreateOrUpdateRoom(room.getHotel().getId())) {
+        if (!this.authService.getAuthenticatedUser().isAbleToCreateOrUpdateRoom(room.getHotel().getId())) {
             throw new ForbiddenException("Operator is not allowed to update this room. The operator can only update a room in the hotel he works at");
         }
         RoomMapper.updateRoom(room, request);
         if (!request.getHotelId().equals(room.getHotel().getId())) {
             Hotel hotel = this.hotelRepository.findById(request.getHotelId())
                 .orElseThrow(() -> new ResourceNotFoundException("Hotel", request.getHotelId()));
+            if (room.getRatingsQuantity() > 0) {
+                this.hotelRepository.addToRatingAggregate(room.getHotel().getId(), -room.getRatingsQuantity(), room.getRatingSum().negate());
+                this.hotelRepository.addToRatingAggregate(hotel.getId(), room.getRatingsQuantity(), room.getRatingSum());
+            }
             room.setHotel(hotel);
         }
         if (images != null) {
@@ -155,7 +171,7 @@ public class RoomServiceImpl implements RoomService {
             if (!this.imageRepository.existsById(id)) {
                 throw new ResourceNotFoundException("Image", id);
             }
-            this.imageRepository.deleteById(id);
+            this.imageService.delete(id);
         });
     }
 
@@ -169,7 +185,7 @@ public class RoomServiceImpl implements RoomService {
     @Override
     @Transactional(readOnly = true)
     public Page<RoomRatingResponseDTO> findAllRatingsByUserId(Long userId, Pageable pageable, boolean isSelfUser) {
-        userId = isSelfUser ? this.authService.getConnectedUser().getId() : userId;
+        userId = isSelfUser ? this.authService.getAuthenticatedUser().id() : userId;
         return this.roomRatingRepository.findAllByUserId(userId, pageable)
             .map(RoomMapper::convertRoomRatingEntityToResponse);
     }
@@ -193,6 +209,7 @@ public class RoomServiceImpl implements RoomService {
         }
         RoomRating roomRating = RoomMapper.convertRoomRatingRequestToEntity(request, room, user);
         this.roomRatingRepository.save(roomRating);
+        this.addToRatingAggregates(room, 1, roomRating.getRating());
     }
 
     @Override
@@ -201,8 +218,10 @@ public class RoomServiceImpl implements RoomService {
         RoomRating roomRating = this.roomRatingRepository.findById(roomRatingId)
             .orElseThrow(() -> new ResourceNotFoundException("RoomRating", roomRatingId));
         this.authService.verifyIfConnectedUserHasAdminPermission(roomRating.getUser().getId());
+        BigDecimal previousRating = roomRating.getRating();
         RoomMapper.updateRoomRating(roomRating, request);
         this.roomRatingRepository.save(roomRating);
+        this.addToRatingAggregates(roomRating.getRoom(), 0, roomRating.getRating().subtract(previousRating));
     }
 
     @Override
@@ -212,6 +231,12 @@ public class RoomServiceImpl implements RoomService {
             .orElseThrow(() -> new ResourceNotFoundException("RoomRating", roomRatingId));
         this.authService.verifyIfConnectedUserHasAdminPermission(roomRating.getUser().getId());
         this.roomRatingRepository.delete(roomRating);
+        this.addToRatingAggregates(roomRating.getRoom(), -1, roomRating.getRating().negate());
+    }
+
+    private void addToRatingAggregates(Room room, int countDelta, BigDecimal sumDelta) {
+        this.roomRepository.addToRatingAggregate(room.getId(), countDelta, sumDelta);
+        this.hotelRepository.addToRatingAggregate(room.getHotel().getId(), countDelta, sumDelta);
     }
     
 }
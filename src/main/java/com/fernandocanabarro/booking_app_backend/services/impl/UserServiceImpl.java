@@ -1,7 +1,12 @@
 package com.fernandocanabarro.booking_app_backend.services.impl;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
@@ -20,10 +25,15 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.base.BaseUserProper
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
 import com.fernandocanabarro.booking_app_backend.models.entities.Role;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
+import com.fernandocanabarro.booking_app_backend.projections.UserExportProjection;
 import com.fernandocanabarro.booking_app_backend.repositories.HotelRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoleRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.UserRepository;
 import com.fernandocanabarro.booking_app_backend.services.UserService;
+import com.fernandocanabarro.booking_app_backend.services.auth.ConnectedUserCache;
+import com.fernandocanabarro.booking_app_backend.services.auth.TokenVersionRegistry;
+import com.fernandocanabarro.booking_app_backend.services.csv.UsersCsvExporter;
+import com.fernandocanabarro.booking_app_backend.services.excel.UsersExcelExporter;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.AlreadyExistingPropertyException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.RequiredWorkingHotelIdException;
@@ -39,6 +49,8 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final HotelRepository hotelRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ConnectedUserCache connectedUserCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     @Override
     @Transactional(readOnly = true)
@@ -52,6 +64,22 @@ public class UserServiceImpl implements UserService {
     public List<UserResponseDTO> adminFindAllUsers() {
         return this.userRepository.findAll().stream().map(UserMapper::convertEntityToResponse).toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToExcel(OutputStream outputStream) {
+        try (Stream<UserExportProjection> rows = this.userRepository.streamAllForExport()) {
+            new UsersExcelExporter(rows).export(outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportToCsv(OutputStream outputStream) {
+        try (Stream<UserExportProjection> rows = this.userRepository.streamAllForExport()) {
+            new UsersCsvExporter(rows).export(outputStream);
+        }
+    }
     
     @Override
     @Transactional(readOnly = true)
@@ -121,13 +149,30 @@ public class UserServiceImpl implements UserService {
         this.verifyIfUpdateRequestCpfIsAlreadyInUse(request.getCpf(), entity);
         UserMapper.updateUser(entity, request);
         entity.setActivated(request.getActivated());
+        Set<String> previousAuthorities = this.getAuthorities(entity);
+        Long previousWorkingHotelId = this.getWorkingHotelId(entity);
         entity.getRoles().clear();
         this.setUserRoles(entity, request.getRolesIds());
         if (entity.hasRole("ROLE_OPERATOR") || entity.hasRole("ROLE_ADMIN")) {
             this.verifyIfRequestHasWorkingHotelIdWhenUserHasRoleOperatorOrAdmin(request);
             this.updateUserWorkingHotelIfNeeded(entity, request);
         }
+        if (!previousAuthorities.equals(this.getAuthorities(entity)) || !Objects.equals(previousWorkingHotelId, this.getWorkingHotelId(entity))) {
+            entity.setTokenVersion(entity.getTokenVersion() + 1);
+            this.tokenVersionRegistry.evict(id);
+        }
         this.userRepository.save(entity);
+        this.connectedUserCache.evictUser(id);
+    }
+
+    private Long getWorkingHotelId(User entity) {
+        return entity.getWorkingHotel() != null ? entity.getWorkingHotel().getId() : null;
+    }
+
+    private Set<String> getAuthorities(User entity) {
+        return entity.getRoles().stream()
+            .map(Role::getAuthority)
+            .collect(Collectors.toSet());
     }
 
     private void verifyIfUpdateRequestEmailIsAlreadyInUse(String email, User entity) {
@@ -166,6 +211,8 @@ public class UserServiceImpl implements UserService {
         }
         try {
             this.userRepository.deleteById(id);
+            this.connectedUserCache.evictUser(id);
+            this.tokenVersionRegistry.evict(id);
         }
         catch (DataIntegrityViolationException ex) {
             throw new BadRequestException("User can not be deleted because it has bookings associated with");
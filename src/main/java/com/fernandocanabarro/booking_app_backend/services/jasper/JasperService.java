@@ -2,29 +2,49 @@ package com.fernandocanabarro.booking_app_backend.services.jasper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.sql.Connection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
+import com.fernandocanabarro.booking_app_backend.utils.DateUtils;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletResponse;
 import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 
 @Service
 public class JasperService {
 
-    @Autowired
-    private Connection connection;
-
-    private Map<String,Object> params = new HashMap<>();
+    private final DataSource dataSource;
+    private final ExecutorService fillExecutor;
+    private final Map<String, Object> baseParams;
+    private final Map<String, JasperReport> compiledReports = new ConcurrentHashMap<>();
+    private final int virtualizerMaxPages;
+    private final String swapDirectory;
 
     public static final String HOTELS = "hotels";
     public static final String ROOMS = "rooms";
@@ -34,29 +54,120 @@ public class JasperService {
     public static final String BOOKING_SUMMARY = "booking-summary";
     public static final String ROOMS_GROUP_BY_HOTEL = "rooms-group-by-hotel";
 
-    public JasperService() {
-        params.put("IMAGES_DIR", getClass().getClassLoader().getResource("jasper/").toString());
-        params.put("SUB_REPORT_DIR", getClass().getClassLoader().getResource("jasper/").toString());
-    }
+    private static final Set<String> LARGE_REPORTS = Set.of(HOTELS, ROOMS, BOOKINGS, USERS, ROOMS_GROUP_BY_HOTEL);
+    private static final int SWAP_BLOCK_SIZE = 4096;
+    private static final int SWAP_MIN_GROW_COUNT = 100;
 
-    public void addParams(String key, Object value) {
-        params.put(key, value);
+    public JasperService(DataSource dataSource, @Value("${jasper.fill.max-concurrency:4}") int maxConcurrency,
+                         @Value("${jasper.virtualizer.max-pages:50}") int virtualizerMaxPages,
+                         @Value("${jasper.virtualizer.directory:${java.io.tmpdir}}") String swapDirectory) {
+        this.dataSource = dataSource;
+        this.virtualizerMaxPages = virtualizerMaxPages;
+        this.swapDirectory = swapDirectory;
+        this.fillExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency));
+        String jasperDir = getClass().getClassLoader().getResource("jasper/").toString();
+        this.baseParams = Map.of(
+            "IMAGES_DIR", jasperDir,
+            "SUB_REPORT_DIR", jasperDir
+        );
     }
 
     public void exportToPdf(HttpServletResponse response, String fileName) {
+        this.exportToPdf(response, fileName, Map.of());
+    }
+
+    public void exportToPdf(HttpServletResponse response, String fileName, Map<String, Object> params) {
         try {
-            byte[] bytes;
-            InputStream jasperStream = getClass().getClassLoader().getResourceAsStream("jasper/" + fileName + ".jasper");
-            if (jasperStream == null) {
-                throw new ResourceNotFoundException("Jasper file not found: " + fileName);
+            this.exportToPdf(response.getOutputStream(), fileName, params);
+        }
+        catch (IOException e) {
+            throw new BadRequestException("Error writing " + fileName + " report: " + e.getMessage(), e);
+        }
+    }
+
+    public void exportToPdf(OutputStream outputStream, String fileName, Map<String, Object> params) {
+        JRSwapFileVirtualizer virtualizer = LARGE_REPORTS.contains(fileName) ? this.createVirtualizer() : null;
+        try {
+            JasperReport jasperReport = this.loadReport(fileName);
+            Map<String, Object> fillParams = new HashMap<>(this.baseParams);
+            fillParams.putAll(params);
+            if (virtualizer != null) {
+                fillParams.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+            }
+            JasperPrint jasperPrint = this.fill(jasperReport, fillParams);
+            if (virtualizer != null) {
+                virtualizer.setReadOnly(true);
+            }
+            JasperExportManager.exportReportToPdfStream(jasperPrint, outputStream);
+        }
+        catch (JRException e) {
+            throw new BadRequestException("Error generating " + fileName + " report: " + e.getMessage(), e);
+        }
+        finally {
+            if (virtualizer != null) {
+                virtualizer.cleanup();
+            }
+        }
+    }
+
+    public static Map<String, Object> bookingsReportParams(BigDecimal minAmount, BigDecimal maxAmount, Long hotelId, Long roomId, 
+        Long userId, String minCheckInDate, String maxCheckOutDate, String dinheiro, String cartao, String pix, String boleto) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("MIN_AMOUNT", minAmount);
+        params.put("MAX_AMOUNT", maxAmount);
+        params.put("HOTEL_ID", hotelId);
+        params.put("ROOM_ID", roomId);
+        params.put("USER_ID", userId);
+        params.put("MIN_CHECK_IN_DATE", DateUtils.convertStringParamToDate(minCheckInDate));
+        params.put("MAX_CHECK_OUT_DATE", DateUtils.convertStringParamToDate(maxCheckOutDate));
+        params.put("DINHEIRO_PAYMENT", dinheiro == null ? null : dinheiro.isBlank() ? null : dinheiro);
+        params.put("CARTAO_PAYMENT", cartao == null ? null : cartao.isBlank() ? null : cartao);
+        params.put("PIX_PAYMENT", pix == null ? null : pix.isBlank() ? null : pix);
+        params.put("BOLETO_PAYMENT", boleto == null ? null : boleto.isBlank() ? null : boleto);
+        return Collections.unmodifiableMap(params);
+    }
+
+    private JRSwapFileVirtualizer createVirtualizer() {
+        JRSwapFile swapFile = new JRSwapFile(this.swapDirectory, SWAP_BLOCK_SIZE, SWAP_MIN_GROW_COUNT);
+        return new JRSwapFileVirtualizer(this.virtualizerMaxPages, swapFile, true);
+    }
+
+    private JasperReport loadReport(String fileName) {
+        return this.compiledReports.computeIfAbsent(fileName, name -> {
+            try (InputStream jasperStream = getClass().getClassLoader().getResourceAsStream("jasper/" + name + ".jasper")) {
+                if (jasperStream == null) {
+                    throw new ResourceNotFoundException("Jasper file not found: " + name);
+                }
+                return (JasperReport) JRLoader.loadObject(jasperStream);
+            }
+            catch (IOException | JRException e) {
+                throw new BadRequestException("Error loading " + name + " Jasper file: " + e.getMessage(), e);
             }
-            JasperPrint jasperPrint = JasperFillManager.fillReport(jasperStream, params, connection);
-            bytes = JasperExportManager.exportReportToPdf(jasperPrint);
-            response.getOutputStream().write(bytes);
+        });
+    }
+
+    private JasperPrint fill(JasperReport jasperReport, Map<String, Object> parameters) throws JRException {
+        Future<JasperPrint> fill = this.fillExecutor.submit(() -> {
+            try (Connection connection = this.dataSource.getConnection()) {
+                return JasperFillManager.fillReport(jasperReport, parameters, connection);
+            }
+        });
+        try {
+            return fill.get();
         }
-        catch (IOException | JRException e) {
-            throw new BadRequestException(fileName + " Jasper file not found: " + e.getMessage());
+        catch (InterruptedException e) {
+            fill.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new JRException("Report fill interrupted", e);
         }
+        catch (ExecutionException e) {
+            throw new JRException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.fillExecutor.shutdown();
     }
 
 }
@@ -0,0 +1,84 @@
+package com.fernandocanabarro.booking_app_backend.services.lock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class BookingLockService {
+
+    private static final String ADVISORY_LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean advisoryLockEnabled;
+    private final ReentrantLock[] stripes;
+    private final Timer lockWaitTimer;
+    private final Counter contentionCounter;
+
+    public BookingLockService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                              @Value("${booking.lock.stripes:64}") int stripes,
+                              @Value("${booking.lock.advisory-enabled:false}") boolean advisoryLockEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.advisoryLockEnabled = advisoryLockEnabled;
+        this.stripes = new ReentrantLock[Math.max(1, stripes)];
+        Arrays.setAll(this.stripes, i -> new ReentrantLock());
+        this.lockWaitTimer = Timer.builder("booking.room.lock.wait")
+            .description("Time spent waiting for a room booking lock")
+            .register(meterRegistry);
+        this.contentionCounter = Counter.builder("booking.room.lock.contended")
+            .description("Room booking lock acquisitions that had to wait for another writer")
+            .register(meterRegistry);
+    }
+
+    public void lockRooms(Long... roomIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Room booking locks must be acquired inside a transaction.");
+        }
+        List<Long> sortedRoomIds = Arrays.stream(roomIds)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+        long start = System.nanoTime();
+        sortedRoomIds.stream()
+            .mapToInt(this::stripeIndex)
+            .distinct()
+            .sorted()
+            .forEach(this::lockStripe);
+        if (this.advisoryLockEnabled) {
+            sortedRoomIds.forEach(roomId -> this.jdbcTemplate.queryForList(ADVISORY_LOCK_SQL, roomId));
+        }
+        this.lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private int stripeIndex(Long roomId) {
+        return Math.floorMod(Long.hashCode(roomId), this.stripes.length);
+    }
+
+    private void lockStripe(int index) {
+        ReentrantLock lock = this.stripes[index];
+        if (!lock.tryLock()) {
+            this.contentionCounter.increment();
+            lock.lock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+}
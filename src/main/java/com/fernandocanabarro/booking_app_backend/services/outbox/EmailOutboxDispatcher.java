@@ -0,0 +1,75 @@
+package com.fernandocanabarro.booking_app_backend.services.outbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
+import com.fernandocanabarro.booking_app_backend.services.EmailService;
+
+@Component
+@ConditionalOnProperty(name = "email.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailService emailService;
+    private final int batchSize;
+
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService, EmailService emailService,
+                                 @Value("${email.outbox.batch-size:50}") int batchSize) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        List<EmailOutboxMessage> messages = this.emailOutboxService.claimDueMessages(this.batchSize);
+        if (messages.isEmpty()) {
+            return;
+        }
+        Map<String, List<EmailOutboxMessage>> messagesByTemplate = messages.stream()
+            .collect(Collectors.groupingBy(EmailOutboxMessage::getTemplateName));
+        Map<String, Future<Map<Long, String>>> deliveries = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            messagesByTemplate.forEach((templateName, batch) ->
+                deliveries.put(templateName, executor.submit(() -> this.emailService.sendBatch(templateName, batch))));
+        }
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        messagesByTemplate.forEach((templateName, batch) -> {
+            Map<Long, String> batchFailures = this.awaitDelivery(batch, deliveries.get(templateName));
+            failures.putAll(batchFailures);
+            batch.stream()
+                .map(EmailOutboxMessage::getId)
+                .filter(id -> !batchFailures.containsKey(id))
+                .forEach(sentIds::add);
+        });
+        this.emailOutboxService.recordResults(sentIds, failures);
+    }
+
+    private Map<Long, String> awaitDelivery(List<EmailOutboxMessage> batch, Future<Map<Long, String>> delivery) {
+        try {
+            return delivery.get();
+        }
+        catch (ExecutionException e) {
+            return batch.stream().collect(Collectors.toMap(EmailOutboxMessage::getId, message -> String.valueOf(e.getCause().getMessage())));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return batch.stream().collect(Collectors.toMap(EmailOutboxMessage::getId, message -> "Interrupted while sending email."));
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.fernandocanabarro.booking_app_backend.services.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
+import com.fernandocanabarro.booking_app_backend.models.enums.EmailOutboxStatusEnum;
+import com.fernandocanabarro.booking_app_backend.repositories.EmailOutboxMessageRepository;
+
+@Service
+public class EmailOutboxService {
+
+    private static final Duration SENDING_LEASE = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final EmailOutboxMessageRepository emailOutboxMessageRepository;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    public EmailOutboxService(EmailOutboxMessageRepository emailOutboxMessageRepository,
+                              @Value("${email.outbox.max-attempts:5}") int maxAttempts,
+                              @Value("${email.outbox.initial-backoff:30s}") Duration initialBackoff) {
+        this.emailOutboxMessageRepository = emailOutboxMessageRepository;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+    }
+
+    @Transactional
+    public void enqueue(String emailTo, String subject, Map<String, Object> variables, String templateName) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+            .emailTo(emailTo)
+            .subject(subject)
+            .variables(variables)
+            .templateName(templateName)
+            .status(EmailOutboxStatusEnum.PENDING)
+            .attempts(0)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build();
+        this.emailOutboxMessageRepository.save(message);
+    }
+
+    @Transactional
+    public List<EmailOutboxMessage> claimDueMessages(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> messages = this.emailOutboxMessageRepository.findDueMessagesForUpdate(now, batchSize);
+        List<EmailOutboxMessage> claimed = new ArrayList<>();
+        messages.forEach(message -> {
+            if (message.getStatus() == EmailOutboxStatusEnum.SENDING && message.getAttempts() >= this.maxAttempts) {
+                message.setStatus(EmailOutboxStatusEnum.FAILED);
+                message.setLastError("Sending lease expired after " + message.getAttempts() + " attempts.");
+                return;
+            }
+            message.setStatus(EmailOutboxStatusEnum.SENDING);
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plus(SENDING_LEASE));
+            claimed.add(message);
+        });
+        this.emailOutboxMessageRepository.saveAll(messages);
+        return claimed;
+    }
+
+    @Transactional
+    public void recordResults(List<Long> sentIds, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        this.emailOutboxMessageRepository.findAllById(sentIds).forEach(message -> {
+            message.setStatus(EmailOutboxStatusEnum.SENT);
+            message.setSentAt(now);
+            message.setLastError(null);
+        });
+        this.emailOutboxMessageRepository.findAllById(failures.keySet()).forEach(message -> {
+            message.setLastError(failures.get(message.getId()));
+            if (message.getAttempts() >= this.maxAttempts) {
+                message.setStatus(EmailOutboxStatusEnum.FAILED);
+                return;
+            }
+            message.setStatus(EmailOutboxStatusEnum.PENDING);
+            message.setNextAttemptAt(now.plus(this.backoff(message.getAttempts())));
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = this.initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+}
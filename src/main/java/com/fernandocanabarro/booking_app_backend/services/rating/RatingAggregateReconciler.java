@@ -0,0 +1,64 @@
+package com.fernandocanabarro.booking_app_backend.services.rating;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "rating.aggregates.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class RatingAggregateReconciler {
+
+    private static final String LOCK_ROOMS_SQL = "SELECT id FROM rooms ORDER BY id FOR UPDATE";
+    private static final String LOCK_HOTELS_SQL = "SELECT id FROM hotels ORDER BY id FOR UPDATE";
+
+    private static final String RECONCILE_ROOMS_SQL = """
+        UPDATE rooms r
+        SET rating_count = a.rating_count, rating_sum = a.rating_sum
+        FROM (
+            SELECT rm.id, COUNT(rr.rating) AS rating_count, COALESCE(SUM(rr.rating), 0) AS rating_sum
+            FROM rooms rm
+            LEFT JOIN room_ratings rr ON rr.room_id = rm.id
+            GROUP BY rm.id
+        ) AS a
+        WHERE r.id = a.id AND (r.rating_count <> a.rating_count OR r.rating_sum <> a.rating_sum)
+        """;
+
+    private static final String RECONCILE_HOTELS_SQL = """
+        UPDATE hotels h
+        SET rating_count = a.rating_count, rating_sum = a.rating_sum
+        FROM (
+            SELECT ho.id, COALESCE(SUM(rm.rating_count), 0) AS rating_count, COALESCE(SUM(rm.rating_sum), 0) AS rating_sum
+            FROM hotels ho
+            LEFT JOIN rooms rm ON rm.hotel_id = ho.id
+            GROUP BY ho.id
+        ) AS a
+        WHERE h.id = a.id AND (h.rating_count <> a.rating_count OR h.rating_sum <> a.rating_sum)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RatingAggregateReconciler(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${rating.aggregates.reconciliation.interval-ms:3600000}")
+    public void reconcile() {
+        this.reconcile(LOCK_ROOMS_SQL, RECONCILE_ROOMS_SQL);
+        this.reconcile(LOCK_HOTELS_SQL, RECONCILE_HOTELS_SQL);
+    }
+
+    // The rows are locked in a statement of their own so the aggregate is read after every pending rating delta
+    // has committed; computing it in the UPDATE itself would use a snapshot taken before the lock wait.
+    private void reconcile(String lockSql, String reconcileSql) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.jdbcTemplate.queryForList(lockSql, Long.class);
+            this.jdbcTemplate.update(reconcileSql);
+        });
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.fernandocanabarro.booking_app_backend.services.report;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportJobStatusEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportTypeEnum;
+
+import lombok.Getter;
+
+@Getter
+public class ReportJob {
+
+    private final String id;
+    private final ReportTypeEnum type;
+    private final Map<String, Object> params;
+    private final String dedupKey;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile ReportJobStatusEnum status = ReportJobStatusEnum.PENDING;
+    private volatile LocalDateTime completedAt;
+    private volatile String error;
+
+    public ReportJob(String id, ReportTypeEnum type, Map<String, Object> params, String dedupKey, Path file) {
+        this.id = id;
+        this.type = type;
+        this.params = params;
+        this.dedupKey = dedupKey;
+        this.file = file;
+    }
+
+    public boolean isFinished() {
+        return this.status == ReportJobStatusEnum.COMPLETED || this.status == ReportJobStatusEnum.FAILED;
+    }
+
+    void markRunning() {
+        this.status = ReportJobStatusEnum.RUNNING;
+    }
+
+    void markCompleted() {
+        this.completedAt = LocalDateTime.now();
+        this.status = ReportJobStatusEnum.COMPLETED;
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = ReportJobStatusEnum.FAILED;
+    }
+
+}
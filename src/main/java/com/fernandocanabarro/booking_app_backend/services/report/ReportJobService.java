@@ -0,0 +1,199 @@
+package com.fernandocanabarro.booking_app_backend.services.report;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fernandocanabarro.booking_app_backend.models.dtos.report.ReportJobResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportJobStatusEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportTypeEnum;
+import com.fernandocanabarro.booking_app_backend.services.BookingService;
+import com.fernandocanabarro.booking_app_backend.services.HotelService;
+import com.fernandocanabarro.booking_app_backend.services.RoomService;
+import com.fernandocanabarro.booking_app_backend.services.UserService;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ReportNotReadyException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.TooManyRequestsException;
+import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
+
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class ReportJobService {
+
+    private final JasperService jasperService;
+    private final BookingService bookingService;
+    private final RoomService roomService;
+    private final UserService userService;
+    private final HotelService hotelService;
+    private final Path directory;
+    private final Duration ttl;
+    private final ThreadPoolExecutor executor;
+
+    // Jobs live only in this instance: they are lost on restart and a poll must reach the node that accepted the job
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> jobsByDedupKey = new HashMap<>();
+
+    public ReportJobService(JasperService jasperService, BookingService bookingService, RoomService roomService,
+                            UserService userService, HotelService hotelService,
+                            @Value("${report.jobs.directory:${java.io.tmpdir}/booking-reports}") String directory,
+                            @Value("${report.jobs.max-concurrency:2}") int maxConcurrency,
+                            @Value("${report.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${report.jobs.ttl:10m}") Duration ttl) {
+        this.jasperService = jasperService;
+        this.bookingService = bookingService;
+        this.roomService = roomService;
+        this.userService = userService;
+        this.hotelService = hotelService;
+        this.ttl = ttl;
+        this.directory = Paths.get(directory);
+        try {
+            Files.createDirectories(this.directory);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not create report directory " + directory, e);
+        }
+        int workers = Math.max(1, maxConcurrency);
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)));
+    }
+
+    public synchronized ReportJobResponseDTO submit(ReportTypeEnum type, Map<String, Object> params) {
+        String dedupKey = type.name() + new TreeMap<>(params);
+        ReportJob existing = this.jobsByDedupKey.get(dedupKey);
+        if (existing != null && existing.getStatus() != ReportJobStatusEnum.FAILED
+                && existing.getCreatedAt().plus(this.ttl).isAfter(LocalDateTime.now())) {
+            return this.toResponse(existing);
+        }
+        String id = UUID.randomUUID().toString();
+        ReportJob job = new ReportJob(id, type, params, dedupKey, this.directory.resolve(id + "." + type.getExtension()));
+        try {
+            this.executor.execute(() -> this.run(job));
+        }
+        catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Report queue is full. Try again later.");
+        }
+        this.jobs.put(id, job);
+        this.jobsByDedupKey.put(dedupKey, job);
+        return this.toResponse(job);
+    }
+
+    public ReportJobResponseDTO findById(String id) {
+        return this.toResponse(this.getJob(id));
+    }
+
+    public ReportJob findCompletedById(String id) {
+        ReportJob job = this.getJob(id);
+        if (job.getStatus() != ReportJobStatusEnum.COMPLETED) {
+            throw new ReportNotReadyException(id, job.getStatus());
+        }
+        return job;
+    }
+
+    public InputStream openFile(ReportJob job) {
+        try {
+            return Files.newInputStream(job.getFile());
+        }
+        catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Report file for job " + job.getId() + " has expired.");
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not read report file for job " + job.getId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.jobs.cleanup-interval-ms:60000}")
+    public synchronized void evictExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        this.jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getCompletedAt().plus(this.ttl).isAfter(now)) {
+                return false;
+            }
+            this.jobsByDedupKey.remove(job.getDedupKey(), job);
+            this.deleteFile(job);
+            return true;
+        });
+    }
+
+    private void run(ReportJob job) {
+        job.markRunning();
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(job.getFile()))) {
+            this.generate(job.getType(), job.getParams(), outputStream);
+        }
+        catch (IOException | RuntimeException e) {
+            job.markFailed(e.getMessage());
+            this.deleteFile(job);
+            return;
+        }
+        job.markCompleted();
+    }
+
+    private void generate(ReportTypeEnum type, Map<String, Object> params, OutputStream outputStream) {
+        switch (type) {
+            case BOOKINGS_PDF -> this.jasperService.exportToPdf(outputStream, JasperService.BOOKINGS, params);
+            case BOOKINGS_EXCEL -> this.bookingService.exportToExcel(outputStream);
+            case ROOMS_PDF -> this.jasperService.exportToPdf(outputStream, JasperService.ROOMS, params);
+            case ROOMS_GROUP_BY_HOTEL_PDF -> this.jasperService.exportToPdf(outputStream, JasperService.ROOMS_GROUP_BY_HOTEL, params);
+            case ROOMS_EXCEL -> this.roomService.exportToExcel(outputStream);
+            case USERS_PDF -> this.jasperService.exportToPdf(outputStream, JasperService.USERS, params);
+            case USERS_EXCEL -> this.userService.exportToExcel(outputStream);
+            case HOTELS_PDF -> this.jasperService.exportToPdf(outputStream, JasperService.HOTELS, params);
+            case HOTELS_EXCEL -> this.hotelService.exportToExcel(outputStream);
+        }
+    }
+
+    private ReportJob getJob(String id) {
+        ReportJob job = this.jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Report job with id " + id + " not found.");
+        }
+        return job;
+    }
+
+    private void deleteFile(ReportJob job) {
+        try {
+            Files.deleteIfExists(job.getFile());
+        }
+        catch (IOException e) {
+            job.getFile().toFile().deleteOnExit();
+        }
+    }
+
+    private ReportJobResponseDTO toResponse(ReportJob job) {
+        return ReportJobResponseDTO.builder()
+            .id(job.getId())
+            .type(job.getType())
+            .status(job.getStatus())
+            .createdAt(job.getCreatedAt())
+            .completedAt(job.getCompletedAt())
+            .error(job.getError())
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+}
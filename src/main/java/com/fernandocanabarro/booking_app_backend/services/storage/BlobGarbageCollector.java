@@ -0,0 +1,50 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "image.storage.gc.enabled", havingValue = "true", matchIfMissing = true)
+public class BlobGarbageCollector {
+
+    private static final String SELECT_RELEASED_SQL = """
+        SELECT storage_key FROM image_blobs
+        WHERE ref_count <= 0 AND released_at < now() - make_interval(secs => ?)
+        FOR UPDATE SKIP LOCKED
+        """;
+    private static final String DELETE_SQL = "DELETE FROM image_blobs WHERE storage_key = ? AND ref_count <= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStorage blobStorage;
+    private final Duration gracePeriod;
+
+    public BlobGarbageCollector(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, BlobStorage blobStorage,
+                                @Value("${image.storage.gc.grace-period:1h}") Duration gracePeriod) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blobStorage = blobStorage;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(fixedDelayString = "${image.storage.gc.interval-ms:600000}")
+    public void deleteReleasedBlobs() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            List<String> keys = this.jdbcTemplate.queryForList(SELECT_RELEASED_SQL, String.class, this.gracePeriod.toMillis() / 1000.0);
+            if (keys.isEmpty()) {
+                return;
+            }
+            this.jdbcTemplate.batchUpdate(DELETE_SQL, keys, keys.size(), (ps, key) -> ps.setString(1, key));
+            keys.forEach(this.blobStorage::delete);
+        });
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class BlobRegistry {
+
+    private static final String REGISTER_SQL = """
+        INSERT INTO image_blobs (storage_key, ref_count, released_at)
+        VALUES (?, 0, now())
+        ON CONFLICT (storage_key) DO UPDATE
+        SET released_at = CASE WHEN image_blobs.ref_count <= 0 THEN now() ELSE image_blobs.released_at END
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public BlobRegistry(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void register(String key) {
+        this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.update(REGISTER_SQL, key));
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+
+public interface BlobStorage {
+
+    StoredBlob store(InputStream content);
+    FileChannel open(String key) throws IOException;
+    boolean exists(String key);
+    void delete(String key);
+
+}
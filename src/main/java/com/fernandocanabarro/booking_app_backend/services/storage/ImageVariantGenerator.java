@@ -0,0 +1,153 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ImageGeneratingException;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class ImageVariantGenerator {
+
+    public static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private static final List<ImageVariantEnum> VARIANTS = List.of(ImageVariantEnum.THUMBNAIL, ImageVariantEnum.CARD);
+
+    private final BlobStorage blobStorage;
+    private final float quality;
+    private final long maxPixels;
+    private final ExecutorService executor;
+
+    public ImageVariantGenerator(BlobStorage blobStorage,
+                                 @Value("${image.variants.threads:0}") int threads,
+                                 @Value("${image.variants.jpeg-quality:0.82}") float quality,
+                                 @Value("${image.variants.max-pixels:40000000}") long maxPixels) {
+        this.blobStorage = blobStorage;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        this.executor = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    }
+
+    public Map<ImageVariantEnum, String> generate(String originalKey, String originalContentType) {
+        BufferedImage original = this.read(originalKey);
+        Map<ImageVariantEnum, String> keys = new EnumMap<>(ImageVariantEnum.class);
+        if (original == null) {
+            return keys;
+        }
+        Map<ImageVariantEnum, Future<String>> futures = new EnumMap<>(ImageVariantEnum.class);
+        VARIANTS.forEach(variant -> futures.put(variant, this.executor.submit(() -> this.store(original, variant, originalKey, originalContentType))));
+        try {
+            for (Map.Entry<ImageVariantEnum, Future<String>> entry : futures.entrySet()) {
+                keys.put(entry.getKey(), entry.getValue().get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageGeneratingException();
+        }
+        catch (ExecutionException e) {
+            throw new ImageGeneratingException();
+        }
+        return keys;
+    }
+
+    private BufferedImage read(String key) {
+        try (FileChannel channel = this.blobStorage.open(key);
+             ImageInputStream input = ImageIO.createImageInputStream(Channels.newInputStream(channel))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > this.maxPixels) {
+                    throw new BadRequestException("Image exceeds the maximum of " + this.maxPixels + " pixels.");
+                }
+                return reader.read(0);
+            }
+            finally {
+                reader.dispose();
+            }
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    private String store(BufferedImage original, ImageVariantEnum variant, String originalKey, String originalContentType) throws IOException {
+        if (original.getWidth() <= variant.getMaxWidth() && VARIANT_CONTENT_TYPE.equals(originalContentType)) {
+            return originalKey;
+        }
+        BufferedImage scaled = this.scale(original, variant.getMaxWidth());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(this.quality);
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        }
+        finally {
+            writer.dispose();
+        }
+        return this.blobStorage.store(new ByteArrayInputStream(output.toByteArray())).key();
+    }
+
+    private BufferedImage scale(BufferedImage original, int maxWidth) {
+        int width = Math.min(maxWidth, original.getWidth());
+        int height = Math.max(1, Math.round((float) original.getHeight() * width / original.getWidth()));
+        BufferedImage current = original;
+        int currentWidth = original.getWidth();
+        int currentHeight = original.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, Color.WHITE, null);
+            graphics.dispose();
+            current = step;
+        } while (currentWidth > width || currentHeight > height);
+        return current;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+}
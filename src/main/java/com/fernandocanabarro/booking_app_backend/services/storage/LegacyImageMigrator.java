@@ -0,0 +1,127 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ImageGeneratingException;
+
+@Component
+@ConditionalOnProperty(name = "image.storage.legacy-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class LegacyImageMigrator implements ApplicationRunner {
+
+    private static final String SELECT_SQL = """
+        SELECT id, base64image FROM images
+        WHERE storage_key IS NULL AND base64image IS NOT NULL AND id > ?
+        ORDER BY id LIMIT ?
+        """;
+    private static final String UPDATE_SQL = """
+        UPDATE images SET storage_key = ?, thumbnail_key = ?, card_key = ?, content_type = ?, size_bytes = ?, base64image = NULL
+        WHERE id = ?
+        """;
+    private static final String SELECT_WITHOUT_VARIANTS_SQL = """
+        SELECT id, storage_key, content_type FROM images
+        WHERE storage_key IS NOT NULL AND card_key IS NULL AND id > ?
+        ORDER BY id LIMIT ?
+        """;
+    private static final String UPDATE_VARIANTS_SQL = "UPDATE images SET thumbnail_key = ?, card_key = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStorage blobStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final int batchSize;
+    private final Map<String, Map<ImageVariantEnum, String>> variantsByStorageKey = new HashMap<>();
+
+    public LegacyImageMigrator(JdbcTemplate jdbcTemplate, BlobStorage blobStorage, ImageVariantGenerator imageVariantGenerator,
+                               @Value("${image.storage.legacy-migration.batch-size:20}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobStorage = blobStorage;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0L;
+        List<LegacyImage> images;
+        do {
+            images = this.jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new LegacyImage(rs.getLong("id"), rs.getString("base64image")), lastId, this.batchSize);
+            for (LegacyImage image : images) {
+                this.migrate(image);
+                lastId = image.id();
+            }
+        } while (images.size() == this.batchSize);
+        this.generateMissingVariants();
+        this.variantsByStorageKey.clear();
+    }
+
+    private void migrate(LegacyImage image) {
+        String dataUri = image.base64Image();
+        int separator = dataUri.indexOf(',');
+        if (!dataUri.startsWith("data:") || separator < 0 || !dataUri.substring(0, separator).endsWith(";base64")) {
+            return;
+        }
+        String contentType = dataUri.substring("data:".length(), separator - ";base64".length());
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(dataUri.substring(separator + 1));
+        }
+        catch (IllegalArgumentException e) {
+            return;
+        }
+        StoredBlob blob = this.blobStorage.store(new ByteArrayInputStream(bytes));
+        Map<ImageVariantEnum, String> variants = this.findVariants(blob.key(), contentType);
+        this.jdbcTemplate.update(UPDATE_SQL, blob.key(), variants.get(ImageVariantEnum.THUMBNAIL), variants.get(ImageVariantEnum.CARD),
+            contentType, blob.size(), image.id());
+    }
+
+    private void generateMissingVariants() {
+        long lastId = 0L;
+        List<StoredImage> images;
+        do {
+            images = this.jdbcTemplate.query(SELECT_WITHOUT_VARIANTS_SQL,
+                (rs, rowNum) -> new StoredImage(rs.getLong("id"), rs.getString("storage_key"), rs.getString("content_type")),
+                lastId, this.batchSize);
+            for (StoredImage image : images) {
+                Map<ImageVariantEnum, String> variants = this.findVariants(image.storageKey(), image.contentType());
+                if (!variants.isEmpty()) {
+                    this.jdbcTemplate.update(UPDATE_VARIANTS_SQL, variants.get(ImageVariantEnum.THUMBNAIL),
+                        variants.get(ImageVariantEnum.CARD), image.id());
+                }
+                lastId = image.id();
+            }
+        } while (images.size() == this.batchSize);
+    }
+
+    private Map<ImageVariantEnum, String> findVariants(String storageKey, String contentType) {
+        return this.variantsByStorageKey.computeIfAbsent(storageKey, key -> {
+            try {
+                return this.imageVariantGenerator.generate(key, contentType);
+            }
+            catch (BadRequestException | ImageGeneratingException e) {
+                return Map.of();
+            }
+        });
+    }
+
+    private record LegacyImage(Long id, String base64Image) {
+
+    }
+
+    private record StoredImage(Long id, String storageKey, String contentType) {
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ImageGeneratingException;
+
+@Component
+public class LocalFileSystemBlobStorage implements BlobStorage {
+
+    private final BlobRegistry blobRegistry;
+    private final Path root;
+
+    public LocalFileSystemBlobStorage(BlobRegistry blobRegistry,
+                                      @Value("${image.storage.directory:${java.io.tmpdir}/booking-images}") String directory) {
+        this.blobRegistry = blobRegistry;
+        this.root = Paths.get(directory).toAbsolutePath();
+        try {
+            Files.createDirectories(this.root);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Could not create image storage directory " + directory, e);
+        }
+    }
+
+    @Override
+    public StoredBlob store(InputStream content) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(this.root, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream input = new DigestInputStream(content, digest)) {
+                size = Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String key = HexFormat.of().formatHex(digest.digest());
+            this.blobRegistry.register(key);
+            Path target = this.resolve(key);
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                Files.delete(temp);
+            }
+            else {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredBlob(key, size);
+        }
+        catch (IOException | NoSuchAlgorithmException e) {
+            this.deleteQuietly(temp);
+            throw new ImageGeneratingException();
+        }
+    }
+
+    @Override
+    public FileChannel open(String key) throws IOException {
+        return FileChannel.open(this.resolve(key), StandardOpenOption.READ);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(this.resolve(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        this.deleteQuietly(this.resolve(key));
+    }
+
+    private Path resolve(String key) {
+        if (!key.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return this.root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+}
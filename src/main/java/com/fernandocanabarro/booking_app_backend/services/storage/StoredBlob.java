@@ -0,0 +1,5 @@
+package com.fernandocanabarro.booking_app_backend.services.storage;
+
+public record StoredBlob(String key, long size) {
+
+}
@@ -0,0 +1,70 @@
+package com.fernandocanabarro.booking_app_backend.services.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class EmailTemplateRenderer {
+
+    private static final String SLOT_PREFIX = "@@slot:";
+    private static final String SLOT_SUFFIX = "@@";
+    private static final Pattern SLOT_PATTERN = Pattern.compile(Pattern.quote(SLOT_PREFIX) + "(\\w+)" + Pattern.quote(SLOT_SUFFIX));
+
+    private final SpringTemplateEngine templateEngine;
+
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    public String render(String templateName, Map<String, Object> variables) {
+        TreeSet<String> variableNames = new TreeSet<>(variables.keySet());
+        CompiledTemplate template = this.compiledTemplates.computeIfAbsent(templateName + variableNames,
+            key -> this.compile(templateName, variableNames));
+        return template.interpolate(variables);
+    }
+
+    private CompiledTemplate compile(String templateName, TreeSet<String> variableNames) {
+        Context context = new Context();
+        variableNames.forEach(name -> context.setVariable(name, SLOT_PREFIX + name + SLOT_SUFFIX));
+        String output = this.templateEngine.process(templateName, context);
+        List<String> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        Matcher matcher = SLOT_PATTERN.matcher(output);
+        int position = 0;
+        while (matcher.find()) {
+            fragments.add(output.substring(position, matcher.start()));
+            slots.add(matcher.group(1));
+            position = matcher.end();
+        }
+        fragments.add(output.substring(position));
+        return new CompiledTemplate(fragments.toArray(String[]::new), slots.toArray(String[]::new), output.length());
+    }
+
+    record CompiledTemplate(String[] fragments, String[] slots, int staticLength) {
+
+        String interpolate(Map<String, Object> variables) {
+            StringBuilder builder = new StringBuilder(this.staticLength + this.slots.length * 32);
+            for (int i = 0; i < this.slots.length; i++) {
+                builder.append(this.fragments[i]);
+                Object value = variables.get(this.slots[i]);
+                if (value != null) {
+                    builder.append(HtmlUtils.htmlEscape(value.toString(), "UTF-8"));
+                }
+            }
+            return builder.append(this.fragments[this.slots.length]).toString();
+        }
+
+    }
+
+}
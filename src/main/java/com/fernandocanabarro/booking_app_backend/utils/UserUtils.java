@@ -5,6 +5,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
+import com.fernandocanabarro.booking_app_backend.security.AuthenticatedUser;
+
 @Service
 public class UserUtils {
 
@@ -14,4 +16,9 @@ public class UserUtils {
         return jwtPrincipal.getClaim("sub");
     }
 
+    public AuthenticatedUser getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return AuthenticatedUser.from((Jwt) authentication.getPrincipal());
+    }
+
 }
@@ -0,0 +1,28 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('room %s: bookings %s and %s', a.room_id, a.id, b.id), '; ')
+    INTO conflicts
+    FROM bookings a
+    JOIN bookings b ON b.room_id = a.room_id AND b.id > a.id
+    WHERE a.is_finished = false
+      AND b.is_finished = false
+      AND daterange(a.check_in, a.check_out, '[]') && daterange(b.check_in, b.check_out, '[]');
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Cannot add ex_booking_room_stay_period: unfinished bookings overlap (%). Finish or reschedule them and rerun the migration.', conflicts;
+    END IF;
+END $$;
+
+ALTER TABLE bookings
+ADD COLUMN IF NOT EXISTS stay_period daterange
+GENERATED ALWAYS AS (daterange(check_in, check_out, '[]')) STORED;
+
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS ex_booking_room_stay_period;
+
+ALTER TABLE bookings
+ADD CONSTRAINT ex_booking_room_stay_period
+EXCLUDE USING gist (room_id WITH =, stay_period WITH &&)
+WHERE (is_finished = false);
@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    email_to VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    template_name VARCHAR(255) NOT NULL,
+    variables jsonb NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at timestamp(6) without time zone NOT NULL,
+    last_error TEXT,
+    created_at timestamp(6) without time zone NOT NULL,
+    sent_at timestamp(6) without time zone
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_due
+ON email_outbox (next_attempt_at)
+WHERE status IN ('PENDING', 'SENDING');
@@ -0,0 +1,5 @@
+ALTER TABLE images ADD COLUMN IF NOT EXISTS storage_key VARCHAR(64);
+ALTER TABLE images ADD COLUMN IF NOT EXISTS content_type VARCHAR(255);
+ALTER TABLE images ADD COLUMN IF NOT EXISTS size_bytes BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_images_storage_key ON images (storage_key);
@@ -0,0 +1,2 @@
+ALTER TABLE images ADD COLUMN IF NOT EXISTS thumbnail_key VARCHAR(64);
+ALTER TABLE images ADD COLUMN IF NOT EXISTS card_key VARCHAR(64);
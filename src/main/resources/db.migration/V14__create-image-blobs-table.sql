@@ -0,0 +1,47 @@
+CREATE TABLE IF NOT EXISTS image_blobs (
+    storage_key VARCHAR(64) PRIMARY KEY,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    released_at timestamp(6) without time zone
+);
+
+CREATE INDEX IF NOT EXISTS idx_image_blobs_released
+ON image_blobs (released_at)
+WHERE ref_count <= 0;
+
+INSERT INTO image_blobs (storage_key, ref_count)
+SELECT keys.key, COUNT(*)
+FROM (
+    SELECT DISTINCT i.id, k.key
+    FROM images i
+    CROSS JOIN LATERAL (VALUES (i.storage_key), (i.thumbnail_key), (i.card_key)) AS k(key)
+    WHERE k.key IS NOT NULL
+) AS keys
+GROUP BY keys.key
+ON CONFLICT (storage_key) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION image_blobs_track_references() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE image_blobs
+        SET ref_count = ref_count - 1,
+            released_at = CASE WHEN ref_count = 1 THEN now() ELSE released_at END
+        WHERE storage_key IN (OLD.storage_key, OLD.thumbnail_key, OLD.card_key);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO image_blobs (storage_key, ref_count)
+        SELECT DISTINCT k.key, 1
+        FROM (VALUES (NEW.storage_key), (NEW.thumbnail_key), (NEW.card_key)) AS k(key)
+        WHERE k.key IS NOT NULL
+        ON CONFLICT (storage_key) DO UPDATE
+        SET ref_count = image_blobs.ref_count + 1, released_at = NULL;
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_images_blob_references ON images;
+
+CREATE TRIGGER trg_images_blob_references
+AFTER INSERT OR DELETE OR UPDATE OF storage_key, thumbnail_key, card_key ON images
+FOR EACH ROW EXECUTE FUNCTION image_blobs_track_references();
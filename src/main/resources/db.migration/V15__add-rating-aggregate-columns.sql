@@ -0,0 +1,24 @@
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS rating_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS rating_sum NUMERIC(19, 1) NOT NULL DEFAULT 0;
+
+ALTER TABLE hotels ADD COLUMN IF NOT EXISTS rating_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE hotels ADD COLUMN IF NOT EXISTS rating_sum NUMERIC(19, 1) NOT NULL DEFAULT 0;
+
+UPDATE rooms r
+SET rating_count = a.rating_count, rating_sum = a.rating_sum
+FROM (
+    SELECT room_id, COUNT(*) AS rating_count, SUM(rating) AS rating_sum
+    FROM room_ratings
+    WHERE rating IS NOT NULL
+    GROUP BY room_id
+) AS a
+WHERE r.id = a.room_id;
+
+UPDATE hotels h
+SET rating_count = a.rating_count, rating_sum = a.rating_sum
+FROM (
+    SELECT hotel_id, SUM(rating_count) AS rating_count, SUM(rating_sum) AS rating_sum
+    FROM rooms
+    GROUP BY hotel_id
+) AS a
+WHERE h.id = a.hotel_id;
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_bookings_room_unfinished_dates
+ON bookings (room_id, check_in, check_out)
+WHERE is_finished = false;
@@ -0,0 +1,75 @@
+package com.fernandocanabarro.booking_app_backend.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.fernandocanabarro.booking_app_backend.services.template.EmailTemplateRenderer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateRenderingBenchmark {
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer emailTemplateRenderer;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+        this.templateEngine = new SpringTemplateEngine();
+        this.templateEngine.setTemplateResolver(templateResolver);
+        this.emailTemplateRenderer = new EmailTemplateRenderer(this.templateEngine);
+        this.variables = Map.of(
+            "titleText", "Resumo da Reserva #1",
+            "username", "Fernando Canabarro",
+            "bodyText", "Sua reserva foi aprovada! Clique no botão abaixo para visualizar/imprimir o resumo da sua reserva:",
+            "link", "https://booking-api.fernandocanabarrodev.tech/api/v1/bookings/1/pdf"
+        );
+    }
+
+    @Benchmark
+    public String thymeleafProcess() {
+        Context context = new Context();
+        context.setVariables(this.variables);
+        return this.templateEngine.process("booking-email", context);
+    }
+
+    @Benchmark
+    public String compiledTemplateRender() {
+        return this.emailTemplateRenderer.render("booking-email", this.variables);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EmailTemplateRenderingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.fernandocanabarro.booking_app_backend.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.PaymentTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.BookingExportProjection;
+import com.fernandocanabarro.booking_app_backend.services.excel.BookingsExcelExporter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ExcelExportBenchmark {
+
+    private static final int COLUMNS = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Benchmark
+    public void estimatedColumnWidths() throws IOException {
+        new BookingsExcelExporter(bookings(this.rows)).export(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void trackedAutoSizeColumns() throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Bookings");
+            sheet.trackAllColumnsForAutoSizing();
+            int rowCount = 0;
+            for (BookingExportProjection booking : (Iterable<BookingExportProjection>) bookings(this.rows)::iterator) {
+                Row row = sheet.createRow(rowCount++);
+                row.createCell(0).setCellValue(booking.getId());
+                row.createCell(1).setCellValue(booking.getCheckIn().toString());
+                row.createCell(2).setCellValue(booking.getCheckOut().toString());
+                row.createCell(3).setCellValue(booking.getPaymentType().toString());
+                row.createCell(4).setCellValue(booking.getRoomId());
+                row.createCell(5).setCellValue(booking.getPricePerNight().toString());
+                row.createCell(6).setCellValue(booking.getHotelName());
+                row.createCell(7).setCellValue(booking.getPricePerNight().toString());
+                row.createCell(8).setCellValue(booking.getGuestName());
+                row.createCell(9).setCellValue(booking.getGuestCpf());
+            }
+            for (int i = 0; i < COLUMNS; i++) {
+                sheet.autoSizeColumn(i);
+            }
+            workbook.write(OutputStream.nullOutputStream());
+        }
+        finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static Stream<BookingExportProjection> bookings(int rows) {
+        List<String> hotels = List.of("Hotel Copacabana Palace", "Pousada do Sol", "Grand Hotel Porto Alegre");
+        return LongStream.rangeClosed(1, rows).mapToObj(id -> new BookingExportProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getCheckIn() {
+                return LocalDate.of(2025, 7, 1).plusDays(id % 300);
+            }
+
+            @Override
+            public LocalDate getCheckOut() {
+                return this.getCheckIn().plusDays(1 + id % 10);
+            }
+
+            @Override
+            public PaymentTypeEnum getPaymentType() {
+                return PaymentTypeEnum.values()[(int) (id % 4)];
+            }
+
+            @Override
+            public Long getRoomId() {
+                return id % 500;
+            }
+
+            @Override
+            public BigDecimal getPricePerNight() {
+                return BigDecimal.valueOf(15000 + id % 1000, 2);
+            }
+
+            @Override
+            public String getHotelName() {
+                return hotels.get((int) (id % hotels.size()));
+            }
+
+            @Override
+            public String getGuestName() {
+                return "Hóspede " + id;
+            }
+
+            @Override
+            public String getGuestCpf() {
+                return String.format("%011d", id);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ExcelExportBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.fernandocanabarro.booking_app_backend.benchmarks;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.fernandocanabarro.booking_app_backend.security.CachingJwtDecoder;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecodingBenchmark {
+
+    private NimbusJwtDecoder nimbusJwtDecoder;
+    private CachingJwtDecoder cachingJwtDecoder;
+    private String token;
+
+    @Setup
+    public void setup() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        JWK jwk = new RSAKey.Builder(publicKey)
+            .privateKey((RSAPrivateKey) keyPair.getPrivate())
+            .build();
+        NimbusJwtEncoder jwtEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuer("booking-app")
+            .subject("fernando@gmail.com")
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(86400))
+            .claim("authorities", List.of("ROLE_GUEST"))
+            .claim("uid", 1L)
+            .claim("ver", 0)
+            .build();
+        this.token = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        OAuth2TokenValidator<Jwt> jwtValidator = JwtValidators.createDefault();
+        this.nimbusJwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        this.nimbusJwtDecoder.setJwtValidator(jwtValidator);
+        this.cachingJwtDecoder = new CachingJwtDecoder(this.nimbusJwtDecoder, jwtValidator, 10000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Jwt nimbusDecode() {
+        return this.nimbusJwtDecoder.decode(this.token);
+    }
+
+    @Benchmark
+    public Jwt cachedDecode() {
+        return this.cachingJwtDecoder.decode(this.token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtDecodingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.fernandocanabarro.booking_app_backend.factories;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -8,6 +9,8 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.booking.AdminBookin
 import com.fernandocanabarro.booking_app_backend.models.dtos.booking.AdminUpdateBookingRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.booking.BookingRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.Booking;
+import com.fernandocanabarro.booking_app_backend.models.enums.PaymentTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.BookingExportProjection;
 
 public class BookingFactory {
 
@@ -25,6 +28,55 @@ public class BookingFactory {
             .build();
     }
 
+    public static BookingExportProjection createBookingExportProjection(Booking booking) {
+        return new BookingExportProjection() {
+            @Override
+            public Long getId() {
+                return booking.getId();
+            }
+
+            @Override
+            public LocalDate getCheckIn() {
+                return booking.getCheckIn();
+            }
+
+            @Override
+            public LocalDate getCheckOut() {
+                return booking.getCheckOut();
+            }
+
+            @Override
+            public PaymentTypeEnum getPaymentType() {
+                return booking.getPayment().getPaymentType();
+            }
+
+            @Override
+            public Long getRoomId() {
+                return booking.getRoom().getId();
+            }
+
+            @Override
+            public BigDecimal getPricePerNight() {
+                return booking.getRoom().getPricePerNight();
+            }
+
+            @Override
+            public String getHotelName() {
+                return booking.getRoom().getHotel().getName();
+            }
+
+            @Override
+            public String getGuestName() {
+                return booking.getUser().getFullName();
+            }
+
+            @Override
+            public String getGuestCpf() {
+                return booking.getUser().getCpf();
+            }
+        };
+    }
+
     public static BookingRequestDTO createBookingRequest() {
         BookingRequestDTO request = new BookingRequestDTO();
         request.setRoomId(1L);
@@ -1,11 +1,13 @@
 package com.fernandocanabarro.booking_app_backend.factories;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
 import com.fernandocanabarro.booking_app_backend.models.entities.Image;
 import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.HotelListingProjection;
 
 public class HotelFactory {
 
@@ -22,8 +24,74 @@ public class HotelFactory {
                 .state("state")
                 .phone("(11) 99999-9999")
                 .rooms(new ArrayList<>(Arrays.asList()))
-                .images(new ArrayList<Image>(Arrays.asList(new Image(1L, "image.jpg", ImageTypeEnum.HOTEL, null, null))))
+                .images(new ArrayList<Image>(Arrays.asList(new Image(1L, "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", null, null, "image/png", 0L, ImageTypeEnum.HOTEL, null, null))))
                 .build();
     }
 
+
+    public static HotelListingProjection createHotelListingProjection() {
+        Hotel hotel = createHotel();
+        return new HotelListingProjection() {
+            @Override
+            public Long getId() {
+                return hotel.getId();
+            }
+
+            @Override
+            public String getName() {
+                return hotel.getName();
+            }
+
+            @Override
+            public String getDescription() {
+                return hotel.getDescription();
+            }
+
+            @Override
+            public Integer getRoomQuantity() {
+                return hotel.getRoomQuantity();
+            }
+
+            @Override
+            public String getStreet() {
+                return hotel.getStreet();
+            }
+
+            @Override
+            public String getNumber() {
+                return hotel.getNumber();
+            }
+
+            @Override
+            public String getCity() {
+                return hotel.getCity();
+            }
+
+            @Override
+            public String getZipCode() {
+                return hotel.getZipCode();
+            }
+
+            @Override
+            public String getState() {
+                return hotel.getState();
+            }
+
+            @Override
+            public String getPhone() {
+                return hotel.getPhone();
+            }
+
+            @Override
+            public Integer getRatingCount() {
+                return 2;
+            }
+
+            @Override
+            public BigDecimal getRatingSum() {
+                return BigDecimal.valueOf(9.0);
+            }
+        };
+    }
+
 }
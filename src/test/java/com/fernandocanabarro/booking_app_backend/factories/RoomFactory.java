@@ -23,7 +23,7 @@ public class RoomFactory {
                 .description("Room description")
                 .capacity(1)
                 .hotel(HotelFactory.createHotel())
-                .images(new ArrayList<Image>(Arrays.asList(new Image(1L, "image.jpg", ImageTypeEnum.ROOM, null, null))))
+                .images(new ArrayList<Image>(Arrays.asList(new Image(1L, "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", null, null, "image/png", 0L, ImageTypeEnum.ROOM, null, null))))
                 .bookings(new ArrayList<>(Arrays.asList()))
                 .ratings(new ArrayList<>(Arrays.asList()))
                 .build();
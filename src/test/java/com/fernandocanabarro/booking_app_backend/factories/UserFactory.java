@@ -9,7 +9,9 @@ import java.util.stream.Collectors;
 import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.RegistrationRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.UserSelfUpdateInfosRequestDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.UserSelfUpdatePasswordRequestDTO;
+import com.fernandocanabarro.booking_app_backend.models.entities.Role;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
+import com.fernandocanabarro.booking_app_backend.security.AuthenticatedUser;
 
 public class UserFactory {
 
@@ -30,6 +32,14 @@ public class UserFactory {
                 .build();
     }
 
+    public static AuthenticatedUser createAuthenticatedUser(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getWorkingHotel() != null ? user.getWorkingHotel().getId() : null,
+                user.getRoles().stream().map(Role::getAuthority).collect(Collectors.toSet()));
+    }
+
     public static RegistrationRequestDTO createRegistrationRequestDTO() {
         RegistrationRequestDTO request = new RegistrationRequestDTO();
         request.setFullName("name");
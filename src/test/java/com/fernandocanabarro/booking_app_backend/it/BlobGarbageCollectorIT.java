@@ -0,0 +1,120 @@
+package com.fernandocanabarro.booking_app_backend.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobGarbageCollector;
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobStorage;
+import com.fernandocanabarro.booking_app_backend.services.storage.StoredBlob;
+
+@SpringBootTest
+@Testcontainers
+@Sql(scripts = {"classpath:create_tables.sql", "classpath:insert_data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@ActiveProfiles("it")
+public class BlobGarbageCollectorIT {
+
+    private static final String INSERT_IMAGE_SQL = """
+        INSERT INTO images (storage_key, content_type, size_bytes, image_type, hotel_id)
+        VALUES (?, 'image/png', 0, 'HOTEL', 1)
+        RETURNING id
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @Container
+    private static PostgreSQLContainer<?> postgreSQLContainer;
+
+    static {
+        postgreSQLContainer = new PostgreSQLContainer<>("postgres:14-alpine");
+        postgreSQLContainer.start();
+    }
+
+    @DynamicPropertySource
+    public static void dynamicPropertySource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Test
+    public void unclaimedUploadShouldBeRegisteredAndCollectedAfterGracePeriod() {
+        StoredBlob blob = this.store("unclaimed upload");
+
+        assertThat(this.findRefCount(blob.key())).containsExactly(0);
+        this.garbageCollector(Duration.ZERO).deleteReleasedBlobs();
+
+        assertThat(this.findRefCount(blob.key())).isEmpty();
+        assertThat(blobStorage.exists(blob.key())).isFalse();
+    }
+
+    @Test
+    public void blobShouldBeCollectedOnlyAfterItsLastImageIsDeleted() {
+        StoredBlob blob = this.store("shared upload");
+        Long firstImageId = jdbcTemplate.queryForObject(INSERT_IMAGE_SQL, Long.class, blob.key());
+        Long secondImageId = jdbcTemplate.queryForObject(INSERT_IMAGE_SQL, Long.class, blob.key());
+        BlobGarbageCollector garbageCollector = this.garbageCollector(Duration.ZERO);
+
+        assertThat(this.findRefCount(blob.key())).containsExactly(2);
+
+        jdbcTemplate.update("DELETE FROM images WHERE id = ?", firstImageId);
+        garbageCollector.deleteReleasedBlobs();
+
+        assertThat(this.findRefCount(blob.key())).containsExactly(1);
+        assertThat(blobStorage.exists(blob.key())).isTrue();
+
+        jdbcTemplate.update("DELETE FROM images WHERE id = ?", secondImageId);
+        garbageCollector.deleteReleasedBlobs();
+
+        assertThat(this.findRefCount(blob.key())).isEmpty();
+        assertThat(blobStorage.exists(blob.key())).isFalse();
+    }
+
+    @Test
+    public void storingReleasedContentAgainShouldRestartItsGracePeriod() {
+        StoredBlob blob = this.store("re-uploaded content");
+        Long imageId = jdbcTemplate.queryForObject(INSERT_IMAGE_SQL, Long.class, blob.key());
+        jdbcTemplate.update("DELETE FROM images WHERE id = ?", imageId);
+        jdbcTemplate.update("UPDATE image_blobs SET released_at = now() - interval '2 hours' WHERE storage_key = ?", blob.key());
+
+        this.store("re-uploaded content");
+        this.garbageCollector(Duration.ofHours(1)).deleteReleasedBlobs();
+
+        assertThat(this.findRefCount(blob.key())).containsExactly(0);
+        assertThat(blobStorage.exists(blob.key())).isTrue();
+    }
+
+    private StoredBlob store(String content) {
+        return blobStorage.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<Integer> findRefCount(String key) {
+        return jdbcTemplate.queryForList("SELECT ref_count FROM image_blobs WHERE storage_key = ?", Integer.class, key);
+    }
+
+    private BlobGarbageCollector garbageCollector(Duration gracePeriod) {
+        return new BlobGarbageCollector(jdbcTemplate, transactionManager, blobStorage, gracePeriod);
+    }
+
+}
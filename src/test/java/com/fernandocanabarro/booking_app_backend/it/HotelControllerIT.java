@@ -1,11 +1,14 @@
 package com.fernandocanabarro.booking_app_backend.it;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelRequestDTO;
 import com.fernandocanabarro.booking_app_backend.utils.AccessTokenUtils;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @AutoConfigureMockMvc
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @Testcontainers
@@ -42,6 +47,8 @@ public class HotelControllerIT {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private String adminEmail, adminPassword;
     private String guestEmail, guestPassword;
@@ -106,6 +113,31 @@ public class HotelControllerIT {
             .andExpect(jsonPath("$.numberOfElements").value(3));
     }
 
+    @Test
+    public void findAllHotelsShouldRunFixedNumberOfQueriesRegardlessOfPageSize() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/hotels?size=1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.numberOfElements").value(1));
+
+        long statementsForOneHotel = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/hotels?size=50")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.numberOfElements").value(3));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneHotel);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
     @Test
     public void findAllHotelsByNameShouldReturnStatus401WhenAuthTokenIsMissing() throws Exception {
         mockMvc.perform(get("/api/v1/hotels/search?name={name}", "Hotel Mar Azul")
@@ -4,10 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -16,6 +16,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,12 +25,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.fernandocanabarro.booking_app_backend.factories.HotelFactory;
 import com.fernandocanabarro.booking_app_backend.factories.RoleFactory;
 import com.fernandocanabarro.booking_app_backend.factories.UserFactory;
 import com.fernandocanabarro.booking_app_backend.models.dtos.user_auth.LoginResponseDTO;
@@ -49,7 +52,8 @@ import com.fernandocanabarro.booking_app_backend.repositories.ActivationCodeRepo
 import com.fernandocanabarro.booking_app_backend.repositories.PasswordRecoverRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoleRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.UserRepository;
-import com.fernandocanabarro.booking_app_backend.services.EmailService;
+import com.fernandocanabarro.booking_app_backend.security.AuthenticatedUser;
+import com.fernandocanabarro.booking_app_backend.services.auth.ConnectedUserCache;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.AlreadyExistingPropertyException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ExpiredCodeException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
@@ -57,8 +61,8 @@ import com.fernandocanabarro.booking_app_backend.services.exceptions.InvalidCurr
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.UnauthorizedException;
 import com.fernandocanabarro.booking_app_backend.services.impl.AuthServiceImpl;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxService;
 import com.fernandocanabarro.booking_app_backend.utils.UserUtils;
-import com.sendgrid.helpers.mail.Mail;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("it")
@@ -81,11 +85,13 @@ public class AuthServiceTests {
     @Mock
     private PasswordRecoverRepository passwordRecoverRepository;
     @Mock
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
     @Mock
     private UserUtils userUtils;
     @Mock
     private ActivationCodeRepository activationCodeRepository;
+    @Mock
+    private ConnectedUserCache connectedUserCache;
 
     private User user;
     private RegistrationRequestDTO registrationRequest;
@@ -149,6 +155,23 @@ public class AuthServiceTests {
         assertThat(response.getExpiresIn()).isEqualTo(86400L);
     }
 
+    @Test
+    public void loginShouldIssueTokenWithUserIdWorkingHotelAndVersionClaims() {
+        ArgumentCaptor<JwtEncoderParameters> captor = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+        user.setWorkingHotel(HotelFactory.createHotel());
+        user.setTokenVersion(3);
+        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
+        when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
+        when(jwtEncoder.encode(captor.capture())).thenReturn(jwt);
+
+        authService.login(loginRequest, false);
+
+        JwtClaimsSet claims = captor.getValue().getClaims();
+        assertThat(claims.<Long>getClaim(AuthenticatedUser.USER_ID_CLAIM)).isEqualTo(1L);
+        assertThat(claims.<Long>getClaim(AuthenticatedUser.WORKING_HOTEL_ID_CLAIM)).isEqualTo(1L);
+        assertThat(claims.<Integer>getClaim(AuthenticatedUser.TOKEN_VERSION_CLAIM)).isEqualTo(3);
+    }
+
     @Test
     public void loginShouldThrowForbiddenExceptionWhenLoginIsAdminLoginButUserDoesNotHaveOperatorOrAdminRole() {
         when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(user));
@@ -173,8 +196,6 @@ public class AuthServiceTests {
         when(roleRepository.findByAuthority("ROLE_GUEST")).thenReturn(RoleFactory.createGuestRole());
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(activationCodeRepository.save(any(ActivationCode.class))).thenReturn(activationCode);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
 
         assertThatCode(() -> authService.register(registrationRequest)).doesNotThrowAnyException();
     }
@@ -209,8 +230,6 @@ public class AuthServiceTests {
         activationCode.setExpiresAt(LocalDateTime.now().minusMinutes(5L));
         when(activationCodeRepository.findByCode(activationCode.getCode())).thenReturn(Optional.of(activationCode));
         when(userRepository.findByEmail(activationCode.getEmail())).thenReturn(Optional.of(user));
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
 
         assertThatThrownBy(() -> authService.activateAccount(new ActivateAccountRequestDTO("code"))).isInstanceOf(ExpiredCodeException.class);
     }
@@ -243,6 +262,29 @@ public class AuthServiceTests {
         assertThat(response.getCpf()).isEqualTo("cpf");
     }
 
+    @Test
+    public void getConnectedUserShouldLoadUserByIdWhenSubjectIsCached() {
+        when(userUtils.getConnectedUserEmail()).thenReturn("email");
+        when(connectedUserCache.findUserId("email")).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        User response = authService.getConnectedUser();
+
+        assertThat(response).isSameAs(user);
+        verify(userRepository, never()).findByEmail("email");
+        verify(connectedUserCache).put("email", user);
+    }
+
+    @Test
+    public void getConnectedUserShouldReturnUserResolvedEarlierInTheSameRequest() {
+        when(connectedUserCache.findInRequest()).thenReturn(user);
+
+        User response = authService.getConnectedUser();
+
+        assertThat(response).isSameAs(user);
+        verifyNoInteractions(userRepository, userUtils);
+    }
+
     @Test
     public void getConnectedUserShouldThrowUnauthorizedExceptionWhenUserDoesNotExist() {
         when(userUtils.getConnectedUserEmail()).thenReturn("email");
@@ -338,8 +380,6 @@ public class AuthServiceTests {
     public void forgotPasswordShouldThrowNoExceptionWhenEmailExists() {
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(passwordRecoverRepository.save(any())).thenReturn(passwordRecover);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
 
         assertThatCode(() -> authService.forgotPassword(new PasswordRecoverRequestDTO(user.getEmail()))).doesNotThrowAnyException();
     }
@@ -421,32 +461,24 @@ public class AuthServiceTests {
     public void verifyIfConnectedUserHasAdminPermissionShouldThrowNoExceptionWhenUserIsOperatorOrAdmin() {
         user.addRole(RoleFactory.createOperatorRole());
         user.addRole(RoleFactory.createAdminRole());
-        AuthServiceImpl spy = spy(authService);
-        when(userUtils.getConnectedUserEmail()).thenReturn(user.getEmail());
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(spy.getConnectedUser()).thenReturn(user);
+        when(userUtils.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
 
-        assertThatCode(() -> spy.verifyIfConnectedUserHasAdminPermission(99L)).doesNotThrowAnyException();
+        assertThatCode(() -> authService.verifyIfConnectedUserHasAdminPermission(99L)).doesNotThrowAnyException();
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     public void verifyIfConnectedUserHasAdminPermissionShouldThrowNoExceptionWhenConnectedUserIsTheOwnerOfTheResource() {
-        AuthServiceImpl spy = spy(authService);
-        when(userUtils.getConnectedUserEmail()).thenReturn(user.getEmail());
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(spy.getConnectedUser()).thenReturn(user);
+        when(userUtils.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
 
-        assertThatCode(() -> spy.verifyIfConnectedUserHasAdminPermission(1L)).doesNotThrowAnyException();
+        assertThatCode(() -> authService.verifyIfConnectedUserHasAdminPermission(1L)).doesNotThrowAnyException();
     }
 
     @Test
     public void verifyIfConnectedUserHasAdminPermissionShouldThrowForbiddenExceptionWhenConnectedUserIsNotTheOwnerOfTheResource() {
-        AuthServiceImpl spy = spy(authService);
-        when(userUtils.getConnectedUserEmail()).thenReturn(user.getEmail());
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(spy.getConnectedUser()).thenReturn(user);
+        when(userUtils.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
 
-        assertThatThrownBy(() -> spy.verifyIfConnectedUserHasAdminPermission(99L)).isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> authService.verifyIfConnectedUserHasAdminPermission(99L)).isInstanceOf(ForbiddenException.class);
     }
 
 
@@ -0,0 +1,65 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobGarbageCollector;
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobStorage;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class BlobGarbageCollectorTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private BlobStorage blobStorage;
+
+    private BlobGarbageCollector blobGarbageCollector;
+
+    @BeforeEach
+    public void setup() {
+        this.blobGarbageCollector = new BlobGarbageCollector(jdbcTemplate, transactionManager, blobStorage, Duration.ofHours(1));
+    }
+
+    @Test
+    public void deleteReleasedBlobsShouldDeleteRowsAndFilesOfBlobsWhoseLastReferenceWasReleased() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(3600.0))).thenReturn(List.of("a", "b"));
+
+        blobGarbageCollector.deleteReleasedBlobs();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of("a", "b")), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(blobStorage).delete("a");
+        verify(blobStorage).delete("b");
+    }
+
+    @Test
+    public void deleteReleasedBlobsShouldNotTouchStorageWhenEveryBlobIsReferenced() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(3600.0))).thenReturn(List.of());
+
+        blobGarbageCollector.deleteReleasedBlobs();
+
+        verify(blobStorage, never()).delete(anyString());
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fernandocanabarro.booking_app_backend.services.lock.BookingLockService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class BookingLockServiceTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void lockRoomsShouldThrowIllegalStateExceptionWhenNoTransactionIsActive() {
+        BookingLockService bookingLockService = new BookingLockService(jdbcTemplate, meterRegistry, 16, false);
+
+        assertThatThrownBy(() -> bookingLockService.lockRooms(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void lockRoomsShouldTakeAdvisoryLockPerRoomWhenEnabled() {
+        BookingLockService bookingLockService = new BookingLockService(jdbcTemplate, meterRegistry, 16, true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookingLockService.lockRooms(2L, 1L, 2L);
+        completeTransaction();
+
+        verify(jdbcTemplate).queryForList("SELECT pg_advisory_xact_lock(?)", 1L);
+        verify(jdbcTemplate).queryForList("SELECT pg_advisory_xact_lock(?)", 2L);
+    }
+
+    @Test
+    public void lockRoomsShouldNotTakeAdvisoryLockWhenDisabled() {
+        BookingLockService bookingLockService = new BookingLockService(jdbcTemplate, meterRegistry, 16, false);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookingLockService.lockRooms(1L);
+        completeTransaction();
+
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(meterRegistry.timer("booking.room.lock.wait").count()).isEqualTo(1L);
+    }
+
+    @Test
+    public void lockRoomsShouldWaitAndRecordContentionWhenRoomIsLockedByAnotherTransaction() throws Exception {
+        BookingLockService bookingLockService = new BookingLockService(jdbcTemplate, meterRegistry, 16, false);
+        TransactionSynchronizationManager.initSynchronization();
+        bookingLockService.lockRooms(1L);
+
+        CompletableFuture<Void> otherWriter = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                bookingLockService.lockRooms(1L);
+                completeTransaction();
+            }
+            finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(otherWriter).isNotDone();
+
+        completeTransaction();
+        otherWriter.get(5, TimeUnit.SECONDS);
+
+        assertThat(meterRegistry.counter("booking.room.lock.contended").count()).isEqualTo(1.0);
+    }
+
+    private static void completeTransaction() {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+}
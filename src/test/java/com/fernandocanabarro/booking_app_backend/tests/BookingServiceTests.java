@@ -4,22 +4,32 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -47,6 +57,7 @@ import com.fernandocanabarro.booking_app_backend.models.entities.Payment;
 import com.fernandocanabarro.booking_app_backend.models.entities.Room;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
 import com.fernandocanabarro.booking_app_backend.models.enums.PaymentTypeEnum;
+import com.fernandocanabarro.booking_app_backend.projections.BookingExportProjection;
 import com.fernandocanabarro.booking_app_backend.projections.BookingStatsSummaryProjection;
 import com.fernandocanabarro.booking_app_backend.repositories.BookingRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.CreditCardRepository;
@@ -56,13 +67,14 @@ import com.fernandocanabarro.booking_app_backend.repositories.RoomRatingReposito
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.UserRepository;
 import com.fernandocanabarro.booking_app_backend.services.AuthService;
-import com.fernandocanabarro.booking_app_backend.services.EmailService;
+import com.fernandocanabarro.booking_app_backend.services.availability.RoomAvailabilityIndex;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.RoomIsUnavailableForBookingException;
 import com.fernandocanabarro.booking_app_backend.services.impl.BookingServiceImpl;
-import com.sendgrid.helpers.mail.Mail;
+import com.fernandocanabarro.booking_app_backend.services.lock.BookingLockService;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxService;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("it")
@@ -83,11 +95,15 @@ public class BookingServiceTests {
     @Mock
     private AuthService authService;
     @Mock
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
     @Mock
     private HotelRepository hotelRepository;
     @Mock
     private RoomRatingRepository roomRatingRepository;
+    @Mock
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+    @Mock
+    private BookingLockService bookingLockService;
 
     private Booking booking;
     private User user;
@@ -155,6 +171,50 @@ public class BookingServiceTests {
         assertThat(response.get(0).getUser().getId()).isEqualTo(booking.getUser().getId());
     }
 
+    @Test
+    public void exportToExcelShouldWriteOneRowPerStreamedBookingAndCloseTheStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        BookingExportProjection projection = BookingFactory.createBookingExportProjection(booking);
+        when(bookingRepository.streamAllForExport(null, null, null, null, null, null, null, null)).thenReturn(Stream.of(projection).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookingService.exportToExcel(outputStream);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Bookings");
+            assertThat(sheet.getLastRowNum()).isEqualTo(1);
+            assertThat(sheet.getRow(1).getCell(7).getStringCellValue())
+                .isEqualTo(String.valueOf(booking.getTotalPrice()).replace(".", ","));
+            assertThat(sheet.getRow(1).getCell(8).getStringCellValue()).isEqualTo(booking.getUser().getFullName());
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void exportToCsvShouldWriteGzipCompressedRowsFilteredByPaymentType() throws IOException {
+        BookingExportProjection projection = BookingFactory.createBookingExportProjection(booking);
+        when(bookingRepository.streamAllForExport(null, null, 1L, null, null, null, null, List.of(PaymentTypeEnum.DINHEIRO)))
+            .thenReturn(Stream.of(projection));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookingService.exportToCsv(outputStream, null, null, 1L, null, null, null, null, List.of("dinheiro"));
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            List<String> lines = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(lines.get(0)).startsWith("id,check_in,check_out,payment_type");
+            assertThat(lines.get(1)).startsWith(booking.getId() + "," + booking.getCheckIn() + "," + booking.getCheckOut() + ",DINHEIRO");
+        }
+    }
+
+    @Test
+    public void exportToCsvShouldThrowBadRequestExceptionWhenPaymentTypeIsInvalid() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> bookingService.exportToCsv(outputStream, null, null, null, null, null, null, null, List.of("cheque")))
+            .isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     public void findAllPageableShouldReturnPageOfBookingResponseDTO() {
         when(bookingRepository.findAllBookingsWithQuery(pageable, null, null, null, null, null, List.of(""))).thenReturn(page);
@@ -194,7 +254,7 @@ public class BookingServiceTests {
 
     @Test
     public void findAllBookingsByUserShouldReturnPageOfBookingResponseDTOWhenIsSelfUser() {
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(bookingRepository.findByUserId(user.getId(), pageable)).thenReturn(page);
 
         Page<BookingDetailResponseDTO> response = bookingService.findAllBookingsByUser(null, pageable, true);
@@ -249,8 +309,7 @@ public class BookingServiceTests {
         when(authService.getConnectedUser()).thenReturn(user);
         when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.createBooking(bookingRequest, true)).doesNotThrowAnyException();
     }
@@ -265,8 +324,7 @@ public class BookingServiceTests {
         when(authService.getConnectedUser()).thenReturn(user);
         when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.createBooking(bookingRequest, true)).doesNotThrowAnyException();
     }
@@ -279,8 +337,7 @@ public class BookingServiceTests {
         when(creditCardRepository.findById(bookingRequest.getPayment().getCreditCardId())).thenReturn(Optional.of(CreditCardFactory.createCreditCard()));
         when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.createBooking(bookingRequest, true)).doesNotThrowAnyException();
     }
@@ -291,8 +348,7 @@ public class BookingServiceTests {
         when(userRepository.findById(existingId)).thenReturn(Optional.of(user));
         when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.createBooking(adminBookingRequest, false)).doesNotThrowAnyException();
     }
@@ -312,6 +368,7 @@ public class BookingServiceTests {
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
         when(authService.getConnectedUser()).thenReturn(user);
         when(creditCardRepository.findById(bookingRequest.getPayment().getCreditCardId())).thenReturn(Optional.of(creditCard));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, true)).isInstanceOf(ForbiddenException.class);
     }
@@ -328,6 +385,7 @@ public class BookingServiceTests {
     public void createBookingShouldThrowResourceNotFoundExceptionWhenIsNotSelfBookingButUserDoesNotExist() {
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
         when(userRepository.findById(existingId)).thenReturn(Optional.empty());
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatThrownBy(() -> bookingService.createBooking(adminBookingRequest, false)).isInstanceOf(ResourceNotFoundException.class);
     }
@@ -386,18 +444,43 @@ public class BookingServiceTests {
 
     @Test
     public void createBookingShouldThrowRoomIsUnavailableForBookingExceptionWhenRoomIsOccupiedOnBookingDates() {
-        booking.setCheckIn(bookingRequest.getCheckIn());
-        booking.setCheckOut(bookingRequest.getCheckOut());
-        room.getBookings().add(booking);
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
+        when(roomAvailabilityIndex.isAvailable(room.getId(), bookingRequest.getCheckIn(), bookingRequest.getCheckOut(), null)).thenReturn(false);
 
         assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, true)).isInstanceOf(RoomIsUnavailableForBookingException.class);
     }
 
+    @Test
+    public void createBookingShouldThrowRoomIsUnavailableForBookingExceptionWhenStayPeriodConstraintIsViolated() {
+        when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
+        when(authService.getConnectedUser()).thenReturn(user);
+        when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
+        when(bookingRepository.save(any(Booking.class)))
+            .thenThrow(new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "could not execute statement", new SQLException("conflicting key value", "23P01"), "ex_booking_room_stay_period")));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, true)).isInstanceOf(RoomIsUnavailableForBookingException.class);
+    }
+
+    @Test
+    public void createBookingShouldRethrowDataIntegrityViolationExceptionWhenOtherConstraintIsViolated() {
+        when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
+        when(authService.getConnectedUser()).thenReturn(user);
+        when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
+        when(bookingRepository.save(any(Booking.class)))
+            .thenThrow(new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "could not execute statement", new SQLException("ex_booking_room_stay_period mentioned in detail", "23503"), "fk_booking_user")));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(bookingRequest, true)).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     public void updateBookingShouldThrowNoExceptionWhenDataIsValidAndIsSelfBooking() {
         when(authService.getConnectedUser()).thenReturn(user);
         when(bookingRepository.findById(existingId)).thenReturn(Optional.of(booking));
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.updateBooking(existingId, updateBookingRequest, true)).doesNotThrowAnyException();
     }
@@ -410,6 +493,7 @@ public class BookingServiceTests {
         when(bookingRepository.findById(existingId)).thenReturn(Optional.of(booking));
         when(roomRepository.findById(2L)).thenReturn(Optional.of(room));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.updateBooking(existingId, updateBookingRequest, true)).doesNotThrowAnyException();
     }
@@ -423,6 +507,17 @@ public class BookingServiceTests {
         assertThatThrownBy(() -> bookingService.updateBooking(existingId, updateBookingRequest, true)).isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    public void updateBookingShouldThrowBadRequestExceptionWhenGuestsQuantityIsGreaterThanCurrentRoomCapacityAndRoomIdIsNotCached() {
+        booking.getRoom().setId(1000L);
+        updateBookingRequest.setRoomId(1000L);
+        updateBookingRequest.setGuestsQuantity(100);
+        when(authService.getConnectedUser()).thenReturn(user);
+        when(bookingRepository.findById(existingId)).thenReturn(Optional.of(booking));
+
+        assertThatThrownBy(() -> bookingService.updateBooking(existingId, updateBookingRequest, true)).isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     public void updateBookingShouldThrowResourceNotFoundExceptionWhenRoomIsChangedButRoomDoesNotExistAndIsSelfBooking() {
         room.setId(2L);
@@ -451,6 +546,7 @@ public class BookingServiceTests {
         when(userRepository.findById(existingId)).thenReturn(Optional.of(user));
         when(bookingRepository.findById(existingId)).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.updateBooking(existingId, adminUpdateBookingRequest, false)).doesNotThrowAnyException();
     }
@@ -463,6 +559,7 @@ public class BookingServiceTests {
         when(userRepository.findById(2L)).thenReturn(Optional.of(otherUser));
         when(bookingRepository.findById(existingId)).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(roomAvailabilityIndex.isAvailable(any(), any(), any(), any())).thenReturn(true);
 
         assertThatCode(() -> bookingService.updateBooking(existingId, adminUpdateBookingRequest, false)).doesNotThrowAnyException();
     }
@@ -504,8 +601,6 @@ public class BookingServiceTests {
         when(paymentRepository.findById(booking.getId())).thenReturn(Optional.of(booking.getPayment()));
         when(paymentRepository.save(any(Payment.class))).thenReturn(booking.getPayment());
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
-        when(emailService.createEmail(anyString(), anyString(), anyMap(), anyString())).thenReturn(new Mail());
-        doNothing().when(emailService).sendEmail(any(Mail.class));
 
         assertThatCode(() -> bookingService.updateBookingPayment(existingId, bookingPaymentRequest, true)).doesNotThrowAnyException();
     }
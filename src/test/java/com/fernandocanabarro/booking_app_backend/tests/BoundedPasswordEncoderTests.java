@@ -0,0 +1,81 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.security.BoundedPasswordEncoder;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class BoundedPasswordEncoderTests {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    public void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.boundedPasswordEncoder.shutdown();
+    }
+
+    @Test
+    public void encodeAndMatchesShouldRunOnPasswordExecutorAndRecordLatency() {
+        this.boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = boundedPasswordEncoder.encode("12345Az@");
+
+        assertThat(boundedPasswordEncoder.matches("12345Az@", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.timer("auth.password.hashing", "operation", "encode").count()).isEqualTo(1L);
+        assertThat(meterRegistry.timer("auth.password.hashing", "operation", "matches").count()).isEqualTo(2L);
+    }
+
+    @Test
+    public void matchesShouldThrowTooManyRequestsExceptionWhenExecutorIsSaturated() throws Exception {
+        this.boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(100), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("password")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "encoded";
+        });
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("password"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> boundedPasswordEncoder.matches("password", "encoded")).isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(() -> boundedPasswordEncoder.matches("password", "encoded")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("auth.password.active").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(meterRegistry.counter("auth.password.rejected").count()).isEqualTo(2.0);
+    }
+
+}
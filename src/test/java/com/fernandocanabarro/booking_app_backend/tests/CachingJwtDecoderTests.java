@@ -0,0 +1,100 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.security.CachingJwtDecoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class CachingJwtDecoderTests {
+
+    @Mock
+    private JwtDecoder delegate;
+    @Mock
+    private OAuth2TokenValidator<Jwt> validator;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtDecoder cachingJwtDecoder;
+    private Jwt jwt;
+
+    @BeforeEach
+    public void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.cachingJwtDecoder = new CachingJwtDecoder(delegate, validator, 1, meterRegistry);
+        this.jwt = createJwt("token", Instant.now().plusSeconds(3600));
+    }
+
+    @Test
+    public void decodeShouldVerifySignatureOnlyOnceForRepeatedToken() {
+        when(delegate.decode("token")).thenReturn(jwt);
+        when(validator.validate(jwt)).thenReturn(OAuth2TokenValidatorResult.success());
+
+        assertThat(cachingJwtDecoder.decode("token")).isSameAs(jwt);
+        assertThat(cachingJwtDecoder.decode("token")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token");
+        assertThat(meterRegistry.counter("auth.jwt.decode.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("auth.jwt.decode.cache", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void decodeShouldRejectAndEvictCachedTokenWhenItNoLongerValidates() {
+        when(delegate.decode("token")).thenReturn(jwt);
+        when(validator.validate(jwt)).thenReturn(OAuth2TokenValidatorResult.failure(new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN)));
+        cachingJwtDecoder.decode("token");
+
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("token")).isInstanceOf(JwtValidationException.class);
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    public void decodeShouldEvictLeastRecentlyUsedTokenWhenCacheIsFull() {
+        Jwt other = createJwt("other", Instant.now().plusSeconds(3600));
+        when(delegate.decode("token")).thenReturn(jwt);
+        when(delegate.decode("other")).thenReturn(other);
+        when(validator.validate(other)).thenReturn(OAuth2TokenValidatorResult.success());
+
+        cachingJwtDecoder.decode("token");
+        cachingJwtDecoder.decode("other");
+        cachingJwtDecoder.decode("other");
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+        verify(delegate, times(1)).decode("other");
+        assertThat(meterRegistry.get("auth.jwt.decode.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    private static Jwt createJwt(String tokenValue, Instant expiresAt) {
+        return Jwt.withTokenValue(tokenValue)
+            .header("alg", "RS256")
+            .subject("email")
+            .issuedAt(expiresAt.minusSeconds(7200))
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+}
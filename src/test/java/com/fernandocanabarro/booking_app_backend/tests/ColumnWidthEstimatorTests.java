@@ -0,0 +1,52 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.services.excel.ColumnWidthEstimator;
+
+@ActiveProfiles("it")
+public class ColumnWidthEstimatorTests {
+
+    @Test
+    public void widthOfShouldKeepWidestTrackedValuePlusPadding() {
+        ColumnWidthEstimator estimator = new ColumnWidthEstimator(2);
+
+        estimator.track(0, "Id");
+        estimator.track(0, "12345");
+        estimator.track(0, "1");
+        estimator.track(1, "Nome", 1.5);
+
+        assertThat(estimator.widthOf(0)).isEqualTo((5 + 2) * 256);
+        assertThat(estimator.widthOf(1)).isEqualTo((6 + 2) * 256);
+    }
+
+    @Test
+    public void widthOfShouldBeCappedAtExcelMaximum() {
+        ColumnWidthEstimator estimator = new ColumnWidthEstimator(1);
+
+        estimator.track(0, "x".repeat(1000));
+
+        assertThat(estimator.widthOf(0)).isEqualTo(255 * 256);
+    }
+
+    @Test
+    public void applyShouldSetWidthOfEveryColumn() throws Exception {
+        ColumnWidthEstimator estimator = new ColumnWidthEstimator(2);
+        estimator.track(0, "Fernando Canabarro");
+
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            SXSSFSheet sheet = workbook.createSheet("Users");
+            estimator.apply(sheet);
+
+            assertThat(sheet.getColumnWidth(0)).isEqualTo(estimator.widthOf(0));
+            assertThat(sheet.getColumnWidth(1)).isEqualTo(2 * 256);
+            workbook.dispose();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.factories.UserFactory;
+import com.fernandocanabarro.booking_app_backend.models.entities.User;
+import com.fernandocanabarro.booking_app_backend.services.auth.ConnectedUserCache;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class ConnectedUserCacheTests {
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ConnectedUserCache connectedUserCache;
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        this.connectedUserCache = new ConnectedUserCache(entityManager, Duration.ofMinutes(1));
+        this.user = UserFactory.createUser();
+    }
+
+    @Test
+    public void findUserIdShouldReturnIdOfUserCachedForSubject() {
+        connectedUserCache.put(user.getEmail(), user);
+
+        assertThat(connectedUserCache.findUserId(user.getEmail())).isEqualTo(user.getId());
+        assertThat(connectedUserCache.findUserId("other@gmail.com")).isNull();
+    }
+
+    @Test
+    public void evictShouldRemoveCachedSubjects() {
+        connectedUserCache.put(user.getEmail(), user);
+        connectedUserCache.put("old@gmail.com", user);
+
+        connectedUserCache.evict("old@gmail.com");
+
+        assertThat(connectedUserCache.findUserId("old@gmail.com")).isNull();
+        assertThat(connectedUserCache.findUserId(user.getEmail())).isEqualTo(user.getId());
+
+        connectedUserCache.evictUser(user.getId());
+
+        assertThat(connectedUserCache.findUserId(user.getEmail())).isNull();
+    }
+
+    @Test
+    public void findInRequestShouldReturnNullOutsideOfRequest() {
+        connectedUserCache.put(user.getEmail(), user);
+
+        assertThat(connectedUserCache.findInRequest()).isNull();
+    }
+
+}
@@ -61,7 +61,7 @@ public class CreditCardServiceTests {
     @Test
     public void getConnectedUserCreditCardsShouldReturnPageOfCreditCardResponseDTO() {
         Pageable pageable = PageRequest.of(0,10);
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(creditCardRepository.findByUser(user.getId(), pageable)).thenReturn(page);
 
         Page<CreditCardResponseDTO> response = creditCardService.getConnectedUserCreditCards(pageable);
@@ -0,0 +1,94 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
+import com.fernandocanabarro.booking_app_backend.services.EmailService;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.EmailException;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxDispatcher;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxService;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class EmailOutboxDispatcherTests {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+    @Mock
+    private EmailService emailService;
+
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+    private EmailOutboxMessage message;
+    private EmailOutboxMessage otherMessage;
+
+    @BeforeEach
+    public void setup() {
+        this.emailOutboxDispatcher = new EmailOutboxDispatcher(emailOutboxService, emailService, 10);
+        this.message = EmailOutboxMessage.builder()
+            .id(1L)
+            .emailTo("guest@gmail.com")
+            .subject("Resumo da Reserva")
+            .templateName("booking-email")
+            .variables(Map.of("titleText", "Resumo da Reserva #1"))
+            .build();
+        this.otherMessage = EmailOutboxMessage.builder()
+            .id(2L)
+            .emailTo("other@gmail.com")
+            .subject("Resumo da Reserva")
+            .templateName("booking-email")
+            .variables(Map.of("titleText", "Resumo da Reserva #2"))
+            .build();
+    }
+
+    @Test
+    public void dispatchShouldDoNothingWhenThereAreNoDueMessages() {
+        when(emailOutboxService.claimDueMessages(10)).thenReturn(List.of());
+
+        emailOutboxDispatcher.dispatch();
+
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    public void dispatchShouldRecordSentMessagesWhenBatchIsDelivered() {
+        when(emailOutboxService.claimDueMessages(10)).thenReturn(List.of(message, otherMessage));
+        when(emailService.sendBatch("booking-email", List.of(message, otherMessage))).thenReturn(Map.of());
+
+        emailOutboxDispatcher.dispatch();
+
+        verify(emailOutboxService).recordResults(List.of(1L, 2L), Map.of());
+    }
+
+    @Test
+    public void dispatchShouldRecordOnlyRejectedRecipientsAsFailures() {
+        when(emailOutboxService.claimDueMessages(10)).thenReturn(List.of(message, otherMessage));
+        when(emailService.sendBatch("booking-email", List.of(message, otherMessage))).thenReturn(Map.of(2L, "Invalid recipient"));
+
+        emailOutboxDispatcher.dispatch();
+
+        verify(emailOutboxService).recordResults(List.of(1L), Map.of(2L, "Invalid recipient"));
+    }
+
+    @Test
+    public void dispatchShouldRecordWholeBatchAsFailedWhenEmailProviderFails() {
+        when(emailOutboxService.claimDueMessages(10)).thenReturn(List.of(message));
+        when(emailService.sendBatch("booking-email", List.of(message))).thenThrow(new EmailException("SendGrid unavailable"));
+
+        emailOutboxDispatcher.dispatch();
+
+        verify(emailOutboxService).recordResults(List.of(), Map.of(1L, "SendGrid unavailable"));
+    }
+
+}
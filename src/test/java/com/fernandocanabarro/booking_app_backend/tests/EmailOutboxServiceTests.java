@@ -0,0 +1,129 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
+import com.fernandocanabarro.booking_app_backend.models.enums.EmailOutboxStatusEnum;
+import com.fernandocanabarro.booking_app_backend.repositories.EmailOutboxMessageRepository;
+import com.fernandocanabarro.booking_app_backend.services.outbox.EmailOutboxService;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class EmailOutboxServiceTests {
+
+    @Mock
+    private EmailOutboxMessageRepository emailOutboxMessageRepository;
+
+    private EmailOutboxService emailOutboxService;
+    private EmailOutboxMessage message;
+
+    @BeforeEach
+    public void setup() {
+        this.emailOutboxService = new EmailOutboxService(emailOutboxMessageRepository, 3, Duration.ofSeconds(30));
+        this.message = EmailOutboxMessage.builder()
+            .id(1L)
+            .emailTo("guest@gmail.com")
+            .subject("Resumo da Reserva")
+            .templateName("booking-email")
+            .variables(Map.of("titleText", "Resumo da Reserva #1"))
+            .status(EmailOutboxStatusEnum.PENDING)
+            .attempts(0)
+            .nextAttemptAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Test
+    public void enqueueShouldSavePendingMessage() {
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+
+        emailOutboxService.enqueue("guest@gmail.com", "Resumo da Reserva", Map.of("titleText", "Resumo"), "booking-email");
+
+        verify(emailOutboxMessageRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(EmailOutboxStatusEnum.PENDING);
+        assertThat(captor.getValue().getEmailTo()).isEqualTo("guest@gmail.com");
+        assertThat(captor.getValue().getAttempts()).isZero();
+    }
+
+    @Test
+    public void claimDueMessagesShouldMarkMessagesAsSendingAndIncrementAttempts() {
+        when(emailOutboxMessageRepository.findDueMessagesForUpdate(any(LocalDateTime.class), eq(10))).thenReturn(List.of(message));
+        when(emailOutboxMessageRepository.saveAll(List.of(message))).thenReturn(List.of(message));
+
+        List<EmailOutboxMessage> response = emailOutboxService.claimDueMessages(10);
+
+        assertThat(response).containsExactly(message);
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatusEnum.SENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    public void claimDueMessagesShouldFailExpiredLeaseWhenAttemptsAreExhausted() {
+        message.setStatus(EmailOutboxStatusEnum.SENDING);
+        message.setAttempts(3);
+        when(emailOutboxMessageRepository.findDueMessagesForUpdate(any(LocalDateTime.class), eq(10))).thenReturn(List.of(message));
+
+        List<EmailOutboxMessage> response = emailOutboxService.claimDueMessages(10);
+
+        assertThat(response).isEmpty();
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatusEnum.FAILED);
+        assertThat(message.getAttempts()).isEqualTo(3);
+        assertThat(message.getLastError()).isNotNull();
+        verify(emailOutboxMessageRepository).saveAll(List.of(message));
+    }
+
+    @Test
+    public void recordResultsShouldMarkSentMessages() {
+        when(emailOutboxMessageRepository.findAllById(List.of(1L))).thenReturn(List.of(message));
+        when(emailOutboxMessageRepository.findAllById(Set.of())).thenReturn(List.of());
+
+        emailOutboxService.recordResults(List.of(1L), Map.of());
+
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatusEnum.SENT);
+        assertThat(message.getSentAt()).isNotNull();
+    }
+
+    @Test
+    public void recordResultsShouldRescheduleFailedMessageWithBackoff() {
+        message.setAttempts(2);
+        when(emailOutboxMessageRepository.findAllById(List.of())).thenReturn(List.of());
+        when(emailOutboxMessageRepository.findAllById(Set.of(1L))).thenReturn(List.of(message));
+
+        emailOutboxService.recordResults(List.of(), Map.of(1L, "SendGrid unavailable"));
+
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatusEnum.PENDING);
+        assertThat(message.getLastError()).isEqualTo("SendGrid unavailable");
+        assertThat(message.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(59));
+    }
+
+    @Test
+    public void recordResultsShouldMarkMessageAsFailedWhenMaxAttemptsIsReached() {
+        message.setAttempts(3);
+        when(emailOutboxMessageRepository.findAllById(List.of())).thenReturn(List.of());
+        when(emailOutboxMessageRepository.findAllById(Set.of(1L))).thenReturn(List.of(message));
+
+        emailOutboxService.recordResults(List.of(), Map.of(1L, "SendGrid unavailable"));
+
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxStatusEnum.FAILED);
+    }
+
+}
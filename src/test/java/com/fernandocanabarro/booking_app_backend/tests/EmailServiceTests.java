@@ -0,0 +1,120 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
+import com.fernandocanabarro.booking_app_backend.services.impl.EmailServiceImpl;
+import com.fernandocanabarro.booking_app_backend.services.template.EmailTemplateRenderer;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class EmailServiceTests {
+
+    @Mock
+    private SendGrid sendGrid;
+    @Mock
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailServiceImpl emailService;
+    private EmailOutboxMessage message;
+    private EmailOutboxMessage rejectedMessage;
+
+    @BeforeEach
+    public void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.emailService = new EmailServiceImpl(sendGrid, emailTemplateRenderer, meterRegistry);
+        this.message = EmailOutboxMessage.builder()
+            .id(1L)
+            .emailTo("guest@gmail.com")
+            .subject("Resumo da Reserva")
+            .templateName("booking-email")
+            .variables(Map.of("titleText", "Resumo da Reserva #1", "username", "Fernando"))
+            .build();
+        this.rejectedMessage = EmailOutboxMessage.builder()
+            .id(2L)
+            .emailTo("invalid")
+            .subject("Resumo da Reserva")
+            .templateName("booking-email")
+            .variables(Map.of("titleText", "Resumo da Reserva #2", "username", "Maria"))
+            .build();
+    }
+
+    @Test
+    public void sendBatchShouldSendOneRequestWithOnePersonalizationPerMessage() throws IOException {
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        when(emailTemplateRenderer.render(anyString(), anyMap())).thenReturn("<span>{{titleText}}</span>");
+        when(sendGrid.api(any(Request.class))).thenReturn(new Response(202, "", Map.of()));
+
+        Map<Long, String> failures = emailService.sendBatch("booking-email", List.of(message, rejectedMessage));
+
+        verify(sendGrid).api(captor.capture());
+        assertThat(failures).isEmpty();
+        assertThat(captor.getValue().getBody()).contains("guest@gmail.com", "invalid", "Resumo da Reserva #1", "Resumo da Reserva #2");
+        assertThat(meterRegistry.summary("email.batch.size", "template", "booking-email").totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void sendBatchShouldFallBackToSingleSendsAndReportRejectedRecipients() throws IOException {
+        when(emailTemplateRenderer.render(anyString(), anyMap())).thenReturn("<span>{{titleText}}</span>");
+        when(sendGrid.api(any(Request.class)))
+            .thenReturn(new Response(400, "invalid recipient", Map.of()))
+            .thenReturn(new Response(202, "", Map.of()))
+            .thenReturn(new Response(400, "invalid recipient", Map.of()));
+
+        Map<Long, String> failures = emailService.sendBatch("booking-email", List.of(message, rejectedMessage));
+
+        verify(sendGrid, times(3)).api(any(Request.class));
+        assertThat(failures).containsOnlyKeys(2L);
+        assertThat(meterRegistry.counter("email.batch.failures", "template", "booking-email").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void sendBatchShouldNotFallBackToSingleSendsWhenProviderIsUnavailable() throws IOException {
+        when(emailTemplateRenderer.render(anyString(), anyMap())).thenReturn("<span>{{titleText}}</span>");
+        when(sendGrid.api(any(Request.class))).thenReturn(new Response(503, "service unavailable", Map.of()));
+
+        Map<Long, String> failures = emailService.sendBatch("booking-email", List.of(message, rejectedMessage));
+
+        verify(sendGrid, times(1)).api(any(Request.class));
+        assertThat(failures).containsOnlyKeys(1L, 2L);
+        assertThat(meterRegistry.counter("email.batch.rejected", "template", "booking-email").count()).isZero();
+    }
+
+    @Test
+    public void sendBatchShouldStopSingleSendsWhenProviderStartsThrottling() throws IOException {
+        when(emailTemplateRenderer.render(anyString(), anyMap())).thenReturn("<span>{{titleText}}</span>");
+        when(sendGrid.api(any(Request.class)))
+            .thenReturn(new Response(400, "invalid recipient", Map.of()))
+            .thenReturn(new Response(429, "too many requests", Map.of()));
+
+        Map<Long, String> failures = emailService.sendBatch("booking-email", List.of(message, rejectedMessage));
+
+        verify(sendGrid, times(2)).api(any(Request.class));
+        assertThat(failures).containsOnlyKeys(1L, 2L);
+    }
+
+}
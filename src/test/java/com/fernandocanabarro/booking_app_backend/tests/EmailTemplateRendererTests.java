@@ -0,0 +1,57 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import com.fernandocanabarro.booking_app_backend.services.template.EmailTemplateRenderer;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class EmailTemplateRendererTests {
+
+    @InjectMocks
+    private EmailTemplateRenderer emailTemplateRenderer;
+    @Mock
+    private SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    public void setup() {
+        when(templateEngine.process(eq("booking-email"), any(IContext.class))).thenAnswer(invocation -> {
+            IContext context = invocation.getArgument(1);
+            return "<span>Olá " + context.getVariable("username") + ",</span><a href=\"" + context.getVariable("link") + "\">Abrir PDF</a>";
+        });
+    }
+
+    @Test
+    public void renderShouldInterpolateEscapedVariablesIntoCompiledTemplate() {
+        String response = emailTemplateRenderer.render("booking-email", Map.of("username", "João <Silva>", "link", "https://host/api?a=1&b=2"));
+
+        assertThat(response).isEqualTo("<span>Olá João &lt;Silva&gt;,</span><a href=\"https://host/api?a=1&amp;b=2\">Abrir PDF</a>");
+    }
+
+    @Test
+    public void renderShouldProcessTemplateOnlyOnceForSameVariableNames() {
+        emailTemplateRenderer.render("booking-email", Map.of("username", "Fernando", "link", "https://host/1"));
+        String response = emailTemplateRenderer.render("booking-email", Map.of("username", "Maria", "link", "https://host/2"));
+
+        verify(templateEngine, times(1)).process(eq("booking-email"), any(IContext.class));
+        assertThat(response).isEqualTo("<span>Olá Maria,</span><a href=\"https://host/2\">Abrir PDF</a>");
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.services.auth.ExpiringCache;
+
+@ActiveProfiles("it")
+public class ExpiringCacheTests {
+
+    @Test
+    public void getShouldReturnValueUntilItExpires() {
+        ExpiringCache<Long, Integer> cache = new ExpiringCache<>(Duration.ofMinutes(1));
+        ExpiringCache<Long, Integer> expiredCache = new ExpiringCache<>(Duration.ofSeconds(-1));
+
+        cache.put(1L, 2);
+        expiredCache.put(1L, 2);
+
+        assertThat(cache.get(1L)).isEqualTo(2);
+        assertThat(expiredCache.get(1L)).isNull();
+    }
+
+    @Test
+    public void purgeExpiredShouldRemoveOnlyExpiredEntries() {
+        ExpiringCache<Long, Integer> cache = new ExpiringCache<>(Duration.ofSeconds(-1));
+        cache.put(1L, 2);
+        cache.put(2L, 3);
+
+        cache.purgeExpired();
+
+        assertThat(cache.size()).isZero();
+
+        ExpiringCache<Long, Integer> liveCache = new ExpiringCache<>(Duration.ofMinutes(1));
+        liveCache.put(1L, 2);
+
+        liveCache.purgeExpired();
+
+        assertThat(liveCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void evictIfShouldRemoveEntriesWhoseValueMatches() {
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(Duration.ofMinutes(1));
+        cache.put("user@gmail.com", 1L);
+        cache.put("old@gmail.com", 1L);
+        cache.put("other@gmail.com", 2L);
+
+        cache.evictIf(Long.valueOf(1L)::equals);
+
+        assertThat(cache.get("user@gmail.com")).isNull();
+        assertThat(cache.get("old@gmail.com")).isNull();
+        assertThat(cache.get("other@gmail.com")).isEqualTo(2L);
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -22,7 +23,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.fernandocanabarro.booking_app_backend.factories.HotelFactory;
@@ -33,11 +33,14 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelResponse
 import com.fernandocanabarro.booking_app_backend.models.dtos.hotel.HotelSearchResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
 import com.fernandocanabarro.booking_app_backend.models.entities.Room;
+import com.fernandocanabarro.booking_app_backend.projections.HotelListingProjection;
 import com.fernandocanabarro.booking_app_backend.projections.HotelSearchProjection;
 import com.fernandocanabarro.booking_app_backend.repositories.HotelRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.ImageRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRepository;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.impl.HotelServiceImpl;
@@ -54,12 +57,15 @@ public class HotelServiceTests {
     private RoomRepository roomRepository;
     @Mock
     private ImageRepository imageRepository;
+    @Mock
+    private ImageService imageService;
 
     private Hotel hotel;
     private Room room;
-    private MockMultipartFile mockImage;
+    private Image image;
     private HotelRequestDTO request;
     private HotelSearchProjection projection;
+    private HotelListingProjection listing;
     private Long existingId;
     private Long nonExistingId;
 
@@ -67,12 +73,7 @@ public class HotelServiceTests {
     public void setup() {
         this.hotel = HotelFactory.createHotel();
         this.room = RoomFactory.createRoom();
-        this.mockImage = new MockMultipartFile(
-            "image",                   
-            "imagem.jpg",           
-            "image/jpeg",        
-            "image".getBytes()
-        );
+        this.image = new Image();
         this.request = new HotelRequestDTO("name", "description", 10, "street", "number", "city", "zipCode", "state", "(11) 99999-9999");
         this.projection = new HotelSearchProjection() {
             @Override
@@ -85,6 +86,7 @@ public class HotelServiceTests {
                 return hotel.getName();
             }
         };
+        this.listing = HotelFactory.createHotelListingProjection();
         this.existingId = 1L;
         this.nonExistingId = 1000L;
     }
@@ -100,22 +102,23 @@ public class HotelServiceTests {
 
     @Test
     public void findAllShouldReturnListOfHotels() {
-        when(this.hotelRepository.findAll()).thenReturn(List.of(this.hotel));
+        when(this.hotelRepository.findAllListings()).thenReturn(List.of(this.listing));
         List<HotelResponseDTO> response = this.hotelService.findAll();
         assertThat(response).isNotEmpty();
         assertThat(response.get(0).getId()).isEqualTo(1L);
         assertThat(response.get(0).getName()).isEqualTo("name");
         assertThat(response.get(0).getRoomQuantity()).isEqualTo(10);
         assertThat(response.get(0).getStreet()).isEqualTo("street");
+        assertThat(response.get(0).getAverageRating()).isEqualTo(BigDecimal.valueOf(4.5));
     }
 
     @Test
     public void findAllPageableShouldReturnPageOfHotels() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Hotel> page = new PageImpl<>(List.of(this.hotel));
+        Page<HotelListingProjection> page = new PageImpl<>(List.of(this.listing));
         String name = "name";
 
-        when(this.hotelRepository.findAllByNameContainingIgnoreCase(name, pageable)).thenReturn(page);
+        when(this.hotelRepository.findListingsByName(name, pageable)).thenReturn(page);
 
         Page<HotelResponseDTO> response = this.hotelService.findAllPageable(pageable, name);
 
@@ -166,7 +169,9 @@ public class HotelServiceTests {
     public void createShouldThrowNoException() {
         when(hotelRepository.save(any(Hotel.class))).thenReturn(hotel);
 
-        assertThatCode(() -> this.hotelService.create(request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> this.hotelService.create(request, List.of(image))).doesNotThrowAnyException();
+        assertThat(image.getHotel()).isEqualTo(hotel);
+        verify(imageService).insertAll(List.of(image));
     }
 
     @Test
@@ -174,7 +179,7 @@ public class HotelServiceTests {
         when(this.hotelRepository.findById(this.existingId)).thenReturn(Optional.of(this.hotel));
         when(this.hotelRepository.save(any(Hotel.class))).thenReturn(hotel);
 
-        assertThatCode(() -> this.hotelService.update(this.existingId, request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> this.hotelService.update(this.existingId, request, List.of(image))).doesNotThrowAnyException();
     }
 
     @Test
@@ -189,7 +194,7 @@ public class HotelServiceTests {
     public void updateShouldThrowResourceNotFoundException() {
         when(this.hotelRepository.findById(this.nonExistingId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> this.hotelService.update(this.nonExistingId, request, List.of(mockImage))).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> this.hotelService.update(this.nonExistingId, request, List.of(image))).isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
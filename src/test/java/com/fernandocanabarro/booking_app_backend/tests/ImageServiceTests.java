@@ -0,0 +1,163 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageTypeEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+import com.fernandocanabarro.booking_app_backend.repositories.ImageRepository;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+import com.fernandocanabarro.booking_app_backend.services.impl.ImageServiceImpl;
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobRegistry;
+import com.fernandocanabarro.booking_app_backend.services.storage.ImageVariantGenerator;
+import com.fernandocanabarro.booking_app_backend.services.storage.LocalFileSystemBlobStorage;
+import com.fernandocanabarro.booking_app_backend.services.storage.StoredBlob;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class ImageServiceTests {
+
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private BlobRegistry blobRegistry;
+
+    @TempDir
+    private Path directory;
+
+    private LocalFileSystemBlobStorage blobStorage;
+    private ImageServiceImpl imageService;
+    private MockMultipartFile firstImage;
+    private MockMultipartFile secondImage;
+
+    @BeforeEach
+    public void setup() {
+        this.blobStorage = new LocalFileSystemBlobStorage(blobRegistry, directory.toString());
+        this.imageService = new ImageServiceImpl(imageRepository, blobStorage, imageVariantGenerator, jdbcTemplate, Duration.ofDays(1), 4);
+        this.firstImage = new MockMultipartFile("images", "first.jpg", "image/jpeg", "first".getBytes());
+        this.secondImage = new MockMultipartFile("images", "second.jpg", "image/jpeg", "second".getBytes());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.imageService.shutdown();
+    }
+
+    @Test
+    public void storeAllShouldReturnImagesInUploadOrder() {
+        when(imageRepository.findFirstByStorageKeyAndCardKeyNotNull(anyString())).thenReturn(Optional.empty());
+        when(imageVariantGenerator.generate(anyString(), anyString())).thenReturn(Map.of());
+
+        List<Image> images = imageService.storeAll(List.of(firstImage, secondImage), ImageTypeEnum.ROOM);
+
+        assertThat(images).hasSize(2);
+        assertThat(images.get(0).getStorageKey()).isNotEqualTo(images.get(1).getStorageKey());
+        assertThat(images.get(0).getSizeBytes()).isEqualTo(5L);
+        assertThat(images.get(1).getSizeBytes()).isEqualTo(6L);
+        assertThat(images).allMatch(image -> image.getImageType() == ImageTypeEnum.ROOM);
+    }
+
+    @Test
+    public void storeAllShouldReuseVariantsOfAlreadyStoredContent() {
+        Image existing = Image.builder().thumbnailKey("thumbnail").cardKey("card").build();
+        when(imageRepository.findFirstByStorageKeyAndCardKeyNotNull(anyString())).thenReturn(Optional.of(existing));
+
+        List<Image> images = imageService.storeAll(List.of(firstImage), ImageTypeEnum.HOTEL);
+
+        assertThat(images.get(0).getThumbnailKey()).isEqualTo("thumbnail");
+        assertThat(images.get(0).getCardKey()).isEqualTo("card");
+    }
+
+    @Test
+    public void storeAllShouldThrowBadRequestExceptionWhenFileIsNotAnImage() {
+        MockMultipartFile document = new MockMultipartFile("images", "document.pdf", "application/pdf", "pdf".getBytes());
+
+        assertThatThrownBy(() -> imageService.storeAll(List.of(document), ImageTypeEnum.ROOM)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void storeAllShouldThrowBadRequestExceptionWhenImageIsNotARasterFormat() {
+        MockMultipartFile svg = new MockMultipartFile("images", "image.svg", "image/svg+xml", "<svg/>".getBytes());
+
+        assertThatThrownBy(() -> imageService.storeAll(List.of(svg), ImageTypeEnum.ROOM)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void writeContentShouldStreamOriginalWithETagWhenVariantIsMissing() throws IOException {
+        byte[] content = new byte[300_000];
+        new Random(1L).nextBytes(content);
+        StoredBlob blob = blobStorage.store(new ByteArrayInputStream(content));
+        Image image = Image.builder().id(1L).storageKey(blob.key()).contentType("image/png").build();
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        imageService.writeContent(1L, ImageVariantEnum.CARD, new MockHttpServletRequest("GET", "/images/1"), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + blob.key() + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache").doesNotContain("immutable");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("Content-Security-Policy")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void writeContentShouldReturnNotModifiedWhenETagMatches() throws IOException {
+        StoredBlob blob = blobStorage.store(new ByteArrayInputStream("first".getBytes()));
+        Image image = Image.builder().id(1L).storageKey(blob.key()).contentType("image/jpeg").build();
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + blob.key() + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        imageService.writeContent(1L, ImageVariantEnum.ORIGINAL, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    public void writeContentShouldSandboxContentThatIsNotARasterImage() throws IOException {
+        StoredBlob blob = blobStorage.store(new ByteArrayInputStream("<svg/>".getBytes()));
+        Image image = Image.builder().id(1L).storageKey(blob.key()).contentType("image/svg+xml").build();
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        imageService.writeContent(1L, ImageVariantEnum.ORIGINAL, new MockHttpServletRequest("GET", "/images/1"), response);
+
+        assertThat(response.getHeader("Content-Security-Policy")).isEqualTo("sandbox");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("inline");
+    }
+
+}
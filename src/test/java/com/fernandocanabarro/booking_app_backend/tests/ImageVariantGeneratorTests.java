@@ -0,0 +1,91 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.models.enums.ImageVariantEnum;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobRegistry;
+import com.fernandocanabarro.booking_app_backend.services.storage.ImageVariantGenerator;
+import com.fernandocanabarro.booking_app_backend.services.storage.LocalFileSystemBlobStorage;
+import com.fernandocanabarro.booking_app_backend.services.storage.StoredBlob;
+
+@ActiveProfiles("it")
+public class ImageVariantGeneratorTests {
+
+    @TempDir
+    private Path directory;
+
+    private LocalFileSystemBlobStorage blobStorage;
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @BeforeEach
+    public void setup() {
+        this.blobStorage = new LocalFileSystemBlobStorage(mock(BlobRegistry.class), directory.toString());
+        this.imageVariantGenerator = new ImageVariantGenerator(blobStorage, 2, 0.8f, 2_000_000L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.imageVariantGenerator.shutdown();
+    }
+
+    @Test
+    public void generateShouldStoreDownscaledJpegVariantsKeepingAspectRatio() throws IOException {
+        StoredBlob original = blobStorage.store(new ByteArrayInputStream(png(1280, 960)));
+
+        Map<ImageVariantEnum, String> variants = imageVariantGenerator.generate(original.key(), "image/png");
+
+        BufferedImage thumbnail = read(variants.get(ImageVariantEnum.THUMBNAIL));
+        BufferedImage card = read(variants.get(ImageVariantEnum.CARD));
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(120);
+        assertThat(card.getWidth()).isEqualTo(640);
+        assertThat(card.getHeight()).isEqualTo(480);
+    }
+
+    @Test
+    public void generateShouldReturnNoVariantsWhenContentIsNotADecodableImage() {
+        StoredBlob original = blobStorage.store(new ByteArrayInputStream("not an image".getBytes()));
+
+        assertThat(imageVariantGenerator.generate(original.key(), "image/png")).isEmpty();
+    }
+
+    @Test
+    public void generateShouldThrowBadRequestExceptionWhenImageExceedsMaxPixels() throws IOException {
+        StoredBlob original = blobStorage.store(new ByteArrayInputStream(png(2000, 1001)));
+
+        assertThatThrownBy(() -> imageVariantGenerator.generate(original.key(), "image/png")).isInstanceOf(BadRequestException.class);
+    }
+
+    private BufferedImage read(String key) throws IOException {
+        try (InputStream input = Channels.newInputStream(blobStorage.open(key))) {
+            return ImageIO.read(input);
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+        return output.toByteArray();
+    }
+
+}
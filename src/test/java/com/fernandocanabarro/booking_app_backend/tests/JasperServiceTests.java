@@ -0,0 +1,130 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
+import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
+
+import net.sf.jasperreports.engine.JRException;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class JasperServiceTests {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+
+    private JasperService jasperService;
+
+    @BeforeEach
+    public void setup() {
+        this.jasperService = new JasperService(dataSource, 2, 50, System.getProperty("java.io.tmpdir"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.jasperService.shutdown();
+    }
+
+    @Test
+    public void exportToPdfShouldCloseConnectionAfterFill() throws Exception {
+        Connection emptyResultConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection()).thenReturn(emptyResultConnection);
+
+        assertThatCode(() -> jasperService.exportToPdf(new ByteArrayOutputStream(), JasperService.HOTELS, Map.of()))
+            .doesNotThrowAnyException();
+        verify(emptyResultConnection).close();
+    }
+
+    @Test
+    public void exportToPdfShouldCloseConnectionWhenFillFails() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        assertThatThrownBy(() -> jasperService.exportToPdf(new ByteArrayOutputStream(), JasperService.HOTELS, Map.of()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageStartingWith("Error generating hotels report")
+            .hasCauseInstanceOf(JRException.class);
+        verify(connection).close();
+    }
+
+    @Test
+    public void exportToPdfShouldThrowResourceNotFoundExceptionWhenJasperFileDoesNotExist() {
+        assertThatThrownBy(() -> jasperService.exportToPdf(new ByteArrayOutputStream(), "missing-report", Map.of()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void exportToPdfShouldNotFillMoreReportsThanMaxConcurrencyAtOnce() throws Exception {
+        AtomicInteger activeFills = new AtomicInteger();
+        AtomicInteger maxActiveFills = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            maxActiveFills.accumulateAndGet(activeFills.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+                throw new SQLException("Connection refused");
+            }
+            finally {
+                activeFills.decrementAndGet();
+            }
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(5);
+        try {
+            List<CompletableFuture<Void>> exports = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                exports.add(CompletableFuture.runAsync(() -> assertThatThrownBy(
+                    () -> jasperService.exportToPdf(new ByteArrayOutputStream(), JasperService.HOTELS, Map.of()))
+                    .isInstanceOf(BadRequestException.class), callers));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (activeFills.get() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+
+            assertThat(maxActiveFills.get()).isEqualTo(2);
+
+            release.countDown();
+            CompletableFuture.allOf(exports.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            assertThat(maxActiveFills.get()).isEqualTo(2);
+        }
+        finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+}
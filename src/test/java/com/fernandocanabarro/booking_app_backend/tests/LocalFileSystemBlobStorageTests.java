@@ -0,0 +1,67 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.services.storage.BlobRegistry;
+import com.fernandocanabarro.booking_app_backend.services.storage.LocalFileSystemBlobStorage;
+import com.fernandocanabarro.booking_app_backend.services.storage.StoredBlob;
+
+@ActiveProfiles("it")
+public class LocalFileSystemBlobStorageTests {
+
+    @TempDir
+    private Path directory;
+
+    private LocalFileSystemBlobStorage blobStorage;
+    private byte[] content;
+
+    @BeforeEach
+    public void setup() {
+        this.blobStorage = new LocalFileSystemBlobStorage(mock(BlobRegistry.class), directory.toString());
+        this.content = "image".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void storeShouldKeyBlobBySha256OfContent() throws Exception {
+        StoredBlob blob = blobStorage.store(new ByteArrayInputStream(content));
+
+        assertThat(blob.key()).isEqualTo("6105d6cc76af400325e94d588ce511be5bfdbb73b437dc51eca43917d7a43e3d");
+        assertThat(blob.size()).isEqualTo(content.length);
+        try (FileChannel channel = blobStorage.open(blob.key())) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            channel.read(buffer);
+            assertThat(buffer.array()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void storeShouldReturnSameKeyWhenContentIsStoredTwice() {
+        StoredBlob first = blobStorage.store(new ByteArrayInputStream(content));
+        StoredBlob second = blobStorage.store(new ByteArrayInputStream(content));
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(directory.toFile().list((dir, name) -> name.endsWith(".tmp"))).isEmpty();
+    }
+
+    @Test
+    public void deleteShouldRemoveBlob() {
+        StoredBlob blob = blobStorage.store(new ByteArrayInputStream(content));
+
+        blobStorage.delete(blob.key());
+
+        assertThat(blobStorage.exists(blob.key())).isFalse();
+    }
+
+}
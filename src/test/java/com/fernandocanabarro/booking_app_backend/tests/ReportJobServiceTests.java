@@ -0,0 +1,138 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.models.dtos.report.ReportJobResponseDTO;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportJobStatusEnum;
+import com.fernandocanabarro.booking_app_backend.models.enums.ReportTypeEnum;
+import com.fernandocanabarro.booking_app_backend.services.BookingService;
+import com.fernandocanabarro.booking_app_backend.services.HotelService;
+import com.fernandocanabarro.booking_app_backend.services.RoomService;
+import com.fernandocanabarro.booking_app_backend.services.UserService;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ReportNotReadyException;
+import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
+import com.fernandocanabarro.booking_app_backend.services.jasper.JasperService;
+import com.fernandocanabarro.booking_app_backend.services.report.ReportJob;
+import com.fernandocanabarro.booking_app_backend.services.report.ReportJobService;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class ReportJobServiceTests {
+
+    @Mock
+    private JasperService jasperService;
+    @Mock
+    private BookingService bookingService;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private HotelService hotelService;
+
+    @TempDir
+    private Path directory;
+
+    private ReportJobService reportJobService;
+
+    @BeforeEach
+    public void setup() {
+        this.reportJobService = new ReportJobService(jasperService, bookingService, roomService, userService, hotelService,
+            directory.toString(), 1, 5, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.reportJobService.shutdown();
+    }
+
+    @Test
+    public void submitShouldReuseJobWhenIdenticalRequestIsWithinTtl() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(hotelService).exportToExcel(any(OutputStream.class));
+
+        ReportJobResponseDTO first = reportJobService.submit(ReportTypeEnum.HOTELS_EXCEL, Map.of());
+        ReportJobResponseDTO second = reportJobService.submit(ReportTypeEnum.HOTELS_EXCEL, Map.of());
+        release.countDown();
+        awaitFinished(first.getId());
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        verify(hotelService, times(1)).exportToExcel(any(OutputStream.class));
+    }
+
+    @Test
+    public void findCompletedByIdShouldThrowReportNotReadyExceptionWhileJobIsRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(roomService).exportToExcel(any(OutputStream.class));
+
+        ReportJobResponseDTO job = reportJobService.submit(ReportTypeEnum.ROOMS_EXCEL, Map.of());
+
+        assertThatThrownBy(() -> reportJobService.findCompletedById(job.getId())).isInstanceOf(ReportNotReadyException.class);
+        release.countDown();
+        awaitFinished(job.getId());
+    }
+
+    @Test
+    public void findCompletedByIdShouldReturnWrittenFileWhenJobCompletes() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write("report".getBytes());
+            return null;
+        }).when(userService).exportToExcel(any(OutputStream.class));
+
+        ReportJobResponseDTO job = reportJobService.submit(ReportTypeEnum.USERS_EXCEL, Map.of());
+        awaitFinished(job.getId());
+        ReportJob completed = reportJobService.findCompletedById(job.getId());
+
+        assertThat(completed.getStatus()).isEqualTo(ReportJobStatusEnum.COMPLETED);
+        assertThat(Files.readString(completed.getFile())).isEqualTo("report");
+    }
+
+    @Test
+    public void openFileShouldThrowResourceNotFoundExceptionWhenFileWasAlreadyDeleted() throws Exception {
+        ReportJobResponseDTO job = reportJobService.submit(ReportTypeEnum.HOTELS_EXCEL, Map.of());
+        awaitFinished(job.getId());
+        ReportJob completed = reportJobService.findCompletedById(job.getId());
+        Files.delete(completed.getFile());
+
+        assertThatThrownBy(() -> reportJobService.openFile(completed)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void findByIdShouldThrowResourceNotFoundExceptionWhenJobDoesNotExist() {
+        assertThatThrownBy(() -> reportJobService.findById("unknown")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private void awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!isFinished(reportJobService.findById(id).getStatus()) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private static boolean isFinished(ReportJobStatusEnum status) {
+        return status == ReportJobStatusEnum.COMPLETED || status == ReportJobStatusEnum.FAILED;
+    }
+
+}
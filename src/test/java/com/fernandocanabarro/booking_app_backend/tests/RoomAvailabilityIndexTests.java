@@ -0,0 +1,121 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.factories.BookingFactory;
+import com.fernandocanabarro.booking_app_backend.factories.RoomFactory;
+import com.fernandocanabarro.booking_app_backend.models.entities.Booking;
+import com.fernandocanabarro.booking_app_backend.models.entities.Room;
+import com.fernandocanabarro.booking_app_backend.repositories.BookingRepository;
+import com.fernandocanabarro.booking_app_backend.services.availability.RoomAvailabilityIndex;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class RoomAvailabilityIndexTests {
+
+    @InjectMocks
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private Booking booking;
+    private Room otherRoom;
+
+    @BeforeEach
+    public void setup() {
+        this.booking = BookingFactory.createBooking();
+        this.booking.setCheckIn(LocalDate.of(2026, 10, 10));
+        this.booking.setCheckOut(LocalDate.of(2026, 10, 15));
+        this.otherRoom = RoomFactory.createRoom();
+        this.otherRoom.setId(2L);
+    }
+
+    @Test
+    public void isAvailableShouldReturnFalseWhenDatesOverlapRegisteredBooking() {
+        when(bookingRepository.findUnfinishedStaysByRoomId(booking.getRoom().getId())).thenReturn(List.of());
+        roomAvailabilityIndex.register(booking);
+
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 8), LocalDate.of(2026, 10, 10), null)).isFalse();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 12), LocalDate.of(2026, 10, 13), null)).isFalse();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 15), LocalDate.of(2026, 10, 20), null)).isFalse();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 30), null)).isFalse();
+    }
+
+    @Test
+    public void isAvailableShouldReturnTrueWhenDatesDoNotOverlapOrBookingIsIgnored() {
+        when(bookingRepository.findUnfinishedStaysByRoomId(booking.getRoom().getId())).thenReturn(List.of());
+        roomAvailabilityIndex.register(booking);
+
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 9), null)).isTrue();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 16), LocalDate.of(2026, 10, 20), null)).isTrue();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 12), LocalDate.of(2026, 10, 13), booking.getId())).isTrue();
+    }
+
+    @Test
+    public void isAvailableShouldOnlyConsiderLatestStayStartingBeforeCheckOut() {
+        Booking longStay = BookingFactory.createBooking();
+        longStay.setId(2L);
+        longStay.setCheckIn(LocalDate.of(2026, 1, 1));
+        longStay.setCheckOut(LocalDate.of(2026, 9, 30));
+        when(bookingRepository.findUnfinishedStaysByRoomId(booking.getRoom().getId())).thenReturn(List.of());
+        roomAvailabilityIndex.register(longStay);
+        roomAvailabilityIndex.register(booking);
+
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 20), LocalDate.of(2026, 10, 25), null)).isTrue();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 5), null)).isTrue();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 9, 20), LocalDate.of(2026, 10, 12), booking.getId())).isFalse();
+        assertThat(roomAvailabilityIndex.isAvailable(1L, LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 12), booking.getId())).isTrue();
+    }
+
+    @Test
+    public void isAvailableShouldLoadRoomFromDatabaseWhenWarmUpFails() {
+        when(bookingRepository.findAllUnfinishedStays()).thenThrow(new DataAccessResourceFailureException("Database is down"));
+        when(bookingRepository.findUnfinishedStaysByRoomId(1L)).thenReturn(List.of());
+
+        roomAvailabilityIndex.warmUp();
+
+        assertThat(roomAvailabilityIndex.isAvailable(1L, booking.getCheckIn(), booking.getCheckOut(), null)).isTrue();
+        verify(bookingRepository).findUnfinishedStaysByRoomId(1L);
+    }
+
+    @Test
+    public void registerShouldReleasePreviousRoomWhenBookingMovesAndRemoveFinishedBookings() {
+        when(bookingRepository.findUnfinishedStaysByRoomId(1L)).thenReturn(List.of());
+        when(bookingRepository.findUnfinishedStaysByRoomId(2L)).thenReturn(List.of());
+        roomAvailabilityIndex.register(booking);
+        booking.setRoom(otherRoom);
+        roomAvailabilityIndex.register(booking);
+
+        assertThat(roomAvailabilityIndex.isAvailable(1L, booking.getCheckIn(), booking.getCheckOut(), null)).isTrue();
+        assertThat(roomAvailabilityIndex.isAvailable(2L, booking.getCheckIn(), booking.getCheckOut(), null)).isFalse();
+
+        booking.setFinished(true);
+        roomAvailabilityIndex.register(booking);
+
+        assertThat(roomAvailabilityIndex.isAvailable(2L, booking.getCheckIn(), booking.getCheckOut(), null)).isTrue();
+    }
+
+    @Test
+    public void releaseShouldMakeDatesAvailableAgain() {
+        when(bookingRepository.findUnfinishedStaysByRoomId(booking.getRoom().getId())).thenReturn(List.of());
+        roomAvailabilityIndex.register(booking);
+        roomAvailabilityIndex.release(booking);
+
+        assertThat(roomAvailabilityIndex.isAvailable(1L, booking.getCheckIn(), booking.getCheckOut(), null)).isTrue();
+    }
+
+}
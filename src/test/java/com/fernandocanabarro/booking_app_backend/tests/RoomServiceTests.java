@@ -6,10 +6,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +24,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.fernandocanabarro.booking_app_backend.factories.BookingFactory;
@@ -37,6 +38,7 @@ import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomRequestDTO
 import com.fernandocanabarro.booking_app_backend.models.dtos.room.RoomResponseDTO;
 import com.fernandocanabarro.booking_app_backend.models.entities.Booking;
 import com.fernandocanabarro.booking_app_backend.models.entities.Hotel;
+import com.fernandocanabarro.booking_app_backend.models.entities.Image;
 import com.fernandocanabarro.booking_app_backend.models.entities.Room;
 import com.fernandocanabarro.booking_app_backend.models.entities.RoomRating;
 import com.fernandocanabarro.booking_app_backend.models.entities.User;
@@ -45,6 +47,7 @@ import com.fernandocanabarro.booking_app_backend.repositories.ImageRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRatingRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoomRepository;
 import com.fernandocanabarro.booking_app_backend.services.AuthService;
+import com.fernandocanabarro.booking_app_backend.services.ImageService;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ForbiddenException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.ResourceNotFoundException;
 import com.fernandocanabarro.booking_app_backend.services.impl.RoomServiceImpl;
@@ -63,13 +66,15 @@ public class RoomServiceTests {
     @Mock
     private ImageRepository imageRepository;
     @Mock
+    private ImageService imageService;
+    @Mock
     private RoomRatingRepository roomRatingRepository;
     @Mock
     private AuthService authService;
 
     private Hotel hotel;
     private Room room;
-    private MockMultipartFile mockImage;
+    private Image image;
     private RoomRequestDTO request;
     private Long existingId;
     private Long nonExistingId;
@@ -81,12 +86,7 @@ public class RoomServiceTests {
     public void setup() {
         this.hotel = HotelFactory.createHotel();
         this.room = RoomFactory.createRoom();
-        this.mockImage = new MockMultipartFile(
-            "image",                   
-            "imagem.jpg",           
-            "image/jpeg",        
-            "image".getBytes()
-        );
+        this.image = new Image();
         this.request = new RoomRequestDTO("102", 2, 2, BigDecimal.valueOf(100.0), "Description", 2, 1L);
         this.existingId = 1L;
         this.nonExistingId = 1000L;
@@ -116,7 +116,8 @@ public class RoomServiceTests {
         String checkIn = "2026-10-01";
         String checkOut = "2026-10-05";
 
-        when(this.roomRepository.findByTypeOrCapacityOrPricePerNightOrByHotelCity(null, null, null, null, null, null, pageable)).thenReturn(page);
+        when(this.roomRepository.findAvailableByTypeOrCapacityOrPricePerNightOrByHotelCity(null, null, null, null, null, null, 
+            DateUtils.convertStringParamToLocalDate(checkIn), DateUtils.convertStringParamToLocalDate(checkOut), pageable)).thenReturn(page);
 
         Page<RoomResponseDTO> response = this.roomService.findAllPageable(null, null, null, null, null, 
             DateUtils.convertStringParamToLocalDate(checkIn), DateUtils.convertStringParamToLocalDate(checkOut), null, pageable);
@@ -144,6 +145,21 @@ public class RoomServiceTests {
         assertThat(response.getContent().get(0).getType()).isEqualTo(1);
     }
 
+    @Test
+    public void findAllRoomsPageableShouldTakeCardImageFromProjectionWithoutLoadingImages() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Room> page = new PageImpl<>(List.of(this.room));
+        this.room.getImages().clear();
+
+        when(this.roomRepository.findAll(pageable)).thenReturn(page);
+        when(this.imageService.findRoomCardImageIds(List.of(1L))).thenReturn(Map.of(1L, 7L));
+
+        Page<RoomResponseDTO> response = this.roomService.findAllPageable(pageable);
+
+        assertThat(response.getContent().get(0).getCardDisplayImage().getId()).isEqualTo(7L);
+        assertThat(response.getContent().get(0).getCardDisplayImage().getUrl()).isEqualTo("/api/v1/images/7?variant=CARD");
+    }
+
     @Test
     public void findRoomByIdShouldReturnRoomDetailResponseDTOWhenIdExists() {
         room.getBookings().add(BookingFactory.createBooking());
@@ -171,10 +187,12 @@ public class RoomServiceTests {
         user.addRole(RoleFactory.createOperatorRole());
         user.setWorkingHotel(hotel);
         when(hotelRepository.findById(existingId)).thenReturn(Optional.of(hotel));
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRepository.save(any(Room.class))).thenReturn(room);
 
-        assertThatCode(() -> roomService.create(request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> roomService.create(request, List.of(image))).doesNotThrowAnyException();
+        assertThat(image.getRoom()).isEqualTo(room);
+        verify(imageService).insertAll(List.of(image));
     }
 
     @Test
@@ -182,10 +200,10 @@ public class RoomServiceTests {
         user.getRoles().clear();
         user.addRole(RoleFactory.createAdminRole());
         when(hotelRepository.findById(existingId)).thenReturn(Optional.of(hotel));
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRepository.save(any(Room.class))).thenReturn(room);
 
-        assertThatCode(() -> roomService.create(request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> roomService.create(request, List.of(image))).doesNotThrowAnyException();
     }
 
     @Test
@@ -195,16 +213,16 @@ public class RoomServiceTests {
         user.setWorkingHotel(hotel);
         request.setHotelId(2L);
         when(hotelRepository.findById(2L)).thenReturn(Optional.of(hotel));
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
 
-        assertThatCode(() -> roomService.create(request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> roomService.create(request, List.of(image))).doesNotThrowAnyException();
     }
 
     @Test
     public void createShouldThrowResourceNotFoundExceptionWhenHotelIdDoesNotExist() {
         when(hotelRepository.findById(existingId)).thenReturn(Optional.empty());
         
-        assertThatThrownBy(() -> roomService.create(request, List.of(mockImage))).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> roomService.create(request, List.of(image))).isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -213,17 +231,17 @@ public class RoomServiceTests {
         user.addRole(RoleFactory.createOperatorRole());
         user.setWorkingHotel(hotel);
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRepository.save(any(Room.class))).thenReturn(room);
 
-        assertThatCode(() -> roomService.update(existingId, request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> roomService.update(existingId, request, List.of(image))).doesNotThrowAnyException();
     }
 
     @Test
     public void updateShouldThrowResourceNotFoundExceptionWhenRoomIdDoesNotExist() {
         when(roomRepository.findById(nonExistingId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> roomService.update(nonExistingId, request, List.of(mockImage))).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> roomService.update(nonExistingId, request, List.of(image))).isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -231,12 +249,12 @@ public class RoomServiceTests {
         request.setHotelId(2L);
         user.getRoles().clear();
         user.addRole(RoleFactory.createAdminRole());
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
         when(hotelRepository.findById(2L)).thenReturn(Optional.of(hotel));
         when(roomRepository.save(any(Room.class))).thenReturn(room);
 
-        assertThatCode(() -> roomService.update(existingId, request, List.of(mockImage))).doesNotThrowAnyException();
+        assertThatCode(() -> roomService.update(existingId, request, List.of(image))).doesNotThrowAnyException();
     }
 
     @Test
@@ -246,11 +264,11 @@ public class RoomServiceTests {
         user.addRole(RoleFactory.createAdminRole());
         hotel.setId(2L);
         user.setWorkingHotel(hotel);
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
         when(hotelRepository.findById(nonExistingId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> roomService.update(existingId, request, List.of(mockImage))).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> roomService.update(existingId, request, List.of(image))).isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -259,7 +277,7 @@ public class RoomServiceTests {
         user.addRole(RoleFactory.createOperatorRole());
         user.setWorkingHotel(hotel);
         when(roomRepository.findById(existingId)).thenReturn(Optional.of(room));
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRepository.save(any(Room.class))).thenReturn(room);
 
         assertThatCode(() -> roomService.update(existingId, request, null)).doesNotThrowAnyException();
@@ -325,7 +343,7 @@ public class RoomServiceTests {
     public void findRatingsByUserIdShouldReturnPageOfRoomRatingsWhenIsSelfUser() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<RoomRating> page = new PageImpl<>(List.of(this.roomRating));
-        when(authService.getConnectedUser()).thenReturn(user);
+        when(authService.getAuthenticatedUser()).thenReturn(UserFactory.createAuthenticatedUser(user));
         when(roomRatingRepository.findAllByUserId(user.getId(), pageable)).thenReturn(page);
 
         Page<RoomRatingResponseDTO> response = roomService.findAllRatingsByUserId(null, pageable, true);
@@ -453,6 +471,25 @@ public class RoomServiceTests {
         assertThatThrownBy(() -> roomService.updateRating(existingId, roomRatingRequest)).isInstanceOf(ForbiddenException.class);
     }
 
-    
+    @Test
+    public void updateRatingShouldApplyRatingDifferenceToRoomAndHotelAggregates() {
+        when(roomRatingRepository.findById(existingId)).thenReturn(Optional.of(roomRating));
+        when(roomRatingRepository.save(any(RoomRating.class))).thenReturn(roomRating);
+
+        roomService.updateRating(existingId, new RoomRatingRequestDTO(BigDecimal.valueOf(3.5), "description"));
+
+        verify(roomRepository).addToRatingAggregate(roomRating.getRoom().getId(), 0, BigDecimal.valueOf(-1.0));
+        verify(hotelRepository).addToRatingAggregate(roomRating.getRoom().getHotel().getId(), 0, BigDecimal.valueOf(-1.0));
+    }
+
+    @Test
+    public void deleteRatingShouldRemoveRatingFromRoomAndHotelAggregates() {
+        when(roomRatingRepository.findById(existingId)).thenReturn(Optional.of(roomRating));
+
+        roomService.deleteRating(existingId);
+
+        verify(roomRepository).addToRatingAggregate(roomRating.getRoom().getId(), -1, BigDecimal.valueOf(-4.5));
+        verify(hotelRepository).addToRatingAggregate(roomRating.getRoom().getHotel().getId(), -1, BigDecimal.valueOf(-4.5));
+    }
 
 }
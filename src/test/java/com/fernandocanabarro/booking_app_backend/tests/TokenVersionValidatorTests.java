@@ -0,0 +1,67 @@
+package com.fernandocanabarro.booking_app_backend.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fernandocanabarro.booking_app_backend.security.AuthenticatedUser;
+import com.fernandocanabarro.booking_app_backend.security.TokenVersionValidator;
+import com.fernandocanabarro.booking_app_backend.services.auth.TokenVersionRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("it")
+public class TokenVersionValidatorTests {
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    private TokenVersionValidator tokenVersionValidator;
+
+    @BeforeEach
+    public void setup() {
+        this.tokenVersionValidator = new TokenVersionValidator(tokenVersionRegistry);
+    }
+
+    @Test
+    public void validateShouldSucceedWhenTokenVersionMatchesCurrentVersion() {
+        when(tokenVersionRegistry.findCurrentVersion(1L)).thenReturn(2);
+
+        assertThat(tokenVersionValidator.validate(createJwt(1L, 2)).hasErrors()).isFalse();
+    }
+
+    @Test
+    public void validateShouldFailWhenPermissionsChangedAfterTokenWasIssued() {
+        when(tokenVersionRegistry.findCurrentVersion(1L)).thenReturn(3);
+
+        assertThat(tokenVersionValidator.validate(createJwt(1L, 2)).hasErrors()).isTrue();
+    }
+
+    @Test
+    public void validateShouldFailWhenUserNoLongerExistsOrTokenHasNoVersion() {
+        when(tokenVersionRegistry.findCurrentVersion(1L)).thenReturn(null);
+
+        assertThat(tokenVersionValidator.validate(createJwt(1L, 0)).hasErrors()).isTrue();
+        assertThat(tokenVersionValidator.validate(createJwt(null, null)).hasErrors()).isTrue();
+    }
+
+    private static Jwt createJwt(Long userId, Integer version) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("email");
+        if (userId != null) {
+            builder.claim(AuthenticatedUser.USER_ID_CLAIM, userId);
+        }
+        if (version != null) {
+            builder.claim(AuthenticatedUser.TOKEN_VERSION_CLAIM, version);
+        }
+        return builder.build();
+    }
+
+}
@@ -2,6 +2,8 @@ package com.fernandocanabarro.booking_app_backend.tests;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -40,6 +42,8 @@ import com.fernandocanabarro.booking_app_backend.projections.UserSearchProjectio
 import com.fernandocanabarro.booking_app_backend.repositories.HotelRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.RoleRepository;
 import com.fernandocanabarro.booking_app_backend.repositories.UserRepository;
+import com.fernandocanabarro.booking_app_backend.services.auth.ConnectedUserCache;
+import com.fernandocanabarro.booking_app_backend.services.auth.TokenVersionRegistry;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.AlreadyExistingPropertyException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.BadRequestException;
 import com.fernandocanabarro.booking_app_backend.services.exceptions.RequiredWorkingHotelIdException;
@@ -60,6 +64,10 @@ public class UserServiceTests {
     private HotelRepository hotelRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private ConnectedUserCache connectedUserCache;
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
 
     private User user;
     private AdminCreateUserRequestDTO request;
@@ -249,6 +257,8 @@ public class UserServiceTests {
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         assertThatCode(() -> userService.adminUpdateUser(existingId, updateRequest)).doesNotThrowAnyException();
+        assertThat(user.getTokenVersion()).isZero();
+        verify(tokenVersionRegistry, never()).evict(existingId);
     }
 
     @Test
@@ -266,6 +276,8 @@ public class UserServiceTests {
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         assertThatCode(() -> userService.adminUpdateUser(existingId, updateRequest)).doesNotThrowAnyException();
+        assertThat(user.getTokenVersion()).isEqualTo(1);
+        verify(tokenVersionRegistry).evict(existingId);
     }
 
     @Test
@@ -347,6 +359,7 @@ public class UserServiceTests {
         when(userRepository.existsById(existingId)).thenReturn(true);
 
         assertThatCode(() -> userService.adminDeleteUser(existingId)).doesNotThrowAnyException();
+        verify(tokenVersionRegistry).evict(existingId);
     }
 
     @Test
@@ -1,10 +1,12 @@
 package com.fernandocanabarro.booking_app_backend.utils;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import com.fernandocanabarro.booking_app_backend.models.entities.EmailOutboxMessage;
 import com.fernandocanabarro.booking_app_backend.services.EmailService;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
@@ -25,5 +27,11 @@ public class MockEmailService implements EmailService {
 
     }
 
+    @Override
+    public Map<Long, String> sendBatch(String templateName, List<EmailOutboxMessage> messages) {
+        System.out.println("[FAKE EMAIL] Lote de " + messages.size() + " emails não enviado em ambiente de teste.");
+        return Map.of();
+    }
+
 
 }
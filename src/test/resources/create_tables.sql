@@ -1,3 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
 CREATE TABLE IF NOT EXISTS hotels (
     id BIGSERIAL PRIMARY KEY,
     name VARCHAR(255),
@@ -8,7 +10,9 @@ CREATE TABLE IF NOT EXISTS hotels (
     city VARCHAR(255),
     zip_code VARCHAR(20),
     state VARCHAR(100),
-    phone VARCHAR(20)
+    phone VARCHAR(20),
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum NUMERIC(19, 1) NOT NULL DEFAULT 0
 );
 
 CREATE TABLE IF NOT EXISTS rooms (
@@ -20,6 +24,8 @@ CREATE TABLE IF NOT EXISTS rooms (
     price_per_night numeric(38,2),
     type character varying(255),
     hotel_id bigint,
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum NUMERIC(19, 1) NOT NULL DEFAULT 0,
     CONSTRAINT fk_rooms_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id)
 );
 
@@ -34,6 +40,7 @@ CREATE TABLE IF NOT EXISTS users (
     created_at TIMESTAMP,
     activated BOOLEAN,
     hotel_id BIGINT,
+    token_version INTEGER NOT NULL DEFAULT 0,
     CONSTRAINT fk_user_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id)
 );
 
@@ -54,6 +61,11 @@ CREATE TABLE IF NOT EXISTS user_role (
 CREATE TABLE IF NOT EXISTS images (
     id BIGSERIAL NOT NULL PRIMARY KEY,
     base64image text,
+    storage_key character varying(64),
+    thumbnail_key character varying(64),
+    card_key character varying(64),
+    content_type character varying(255),
+    size_bytes bigint,
     image_type character varying(255),
     hotel_id bigint,
     room_id bigint,
@@ -121,9 +133,11 @@ CREATE TABLE IF NOT EXISTS bookings (
     payment_id bigint,
     room_id bigint,
     user_id bigint,
+    stay_period daterange GENERATED ALWAYS AS (daterange(check_in, check_out, '[]')) STORED,
     CONSTRAINT fk_booking_room_id FOREIGN KEY (room_id) REFERENCES rooms (id),
     CONSTRAINT fk_booking_user_id FOREIGN KEY (user_id) REFERENCES users (id),
-    CONSTRAINT fk_booking_payment_id FOREIGN KEY (payment_id) REFERENCES payments (id)
+    CONSTRAINT fk_booking_payment_id FOREIGN KEY (payment_id) REFERENCES payments (id),
+    CONSTRAINT ex_booking_room_stay_period EXCLUDE USING gist (room_id WITH =, stay_period WITH &&) WHERE (is_finished = false)
 );
 
 CREATE TABLE IF NOT EXISTS boleto_payments (
@@ -161,3 +175,50 @@ ALTER TABLE ONLY public.boleto_payments
 ALTER TABLE ONLY public.pix_payments
     ADD CONSTRAINT fk9krs9wtbw614oqrkwgu939xe2 FOREIGN KEY (id) REFERENCES public.payments(id);
 
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    email_to VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    template_name VARCHAR(255) NOT NULL,
+    variables jsonb NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at timestamp(6) without time zone NOT NULL,
+    last_error TEXT,
+    created_at timestamp(6) without time zone NOT NULL,
+    sent_at timestamp(6) without time zone
+);
+
+CREATE TABLE IF NOT EXISTS image_blobs (
+    storage_key VARCHAR(64) PRIMARY KEY,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    released_at timestamp(6) without time zone
+);
+
+CREATE OR REPLACE FUNCTION image_blobs_track_references() RETURNS trigger AS '
+BEGIN
+    IF TG_OP IN (''UPDATE'', ''DELETE'') THEN
+        UPDATE image_blobs
+        SET ref_count = ref_count - 1,
+            released_at = CASE WHEN ref_count = 1 THEN now() ELSE released_at END
+        WHERE storage_key IN (OLD.storage_key, OLD.thumbnail_key, OLD.card_key);
+    END IF;
+    IF TG_OP IN (''INSERT'', ''UPDATE'') THEN
+        INSERT INTO image_blobs (storage_key, ref_count)
+        SELECT DISTINCT k.key, 1
+        FROM (VALUES (NEW.storage_key), (NEW.thumbnail_key), (NEW.card_key)) AS k(key)
+        WHERE k.key IS NOT NULL
+        ON CONFLICT (storage_key) DO UPDATE
+        SET ref_count = image_blobs.ref_count + 1, released_at = NULL;
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_images_blob_references ON images;
+
+CREATE TRIGGER trg_images_blob_references
+AFTER INSERT OR DELETE OR UPDATE OF storage_key, thumbnail_key, card_key ON images
+FOR EACH ROW EXECUTE FUNCTION image_blobs_track_references();
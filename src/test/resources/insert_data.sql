@@ -12,9 +12,9 @@ INSERT INTO hotels (name, description, room_quantity, street, number, city, zip_
 VALUES 
   ('Hotel Central Plaza', 'Hotel no centro da cidade com fácil acesso a comércio e transporte.', 60, 'Rua XV de Novembro', '789', 'Curitiba', '80020-310', 'PR', '(41) 97777-9101');
 
-INSERT INTO images (base64image, image_type, hotel_id) VALUES ('', 'HOTEL', 1);
-INSERT INTO images (base64image, image_type, hotel_id) VALUES ('', 'HOTEL', 2);
-INSERT INTO images (base64image, image_type, hotel_id) VALUES ('', 'HOTEL', 3);
+INSERT INTO images (storage_key, content_type, size_bytes, image_type, hotel_id) VALUES ('e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855', 'image/png', 0, 'HOTEL', 1);
+INSERT INTO images (storage_key, content_type, size_bytes, image_type, hotel_id) VALUES ('e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855', 'image/png', 0, 'HOTEL', 2);
+INSERT INTO images (storage_key, content_type, size_bytes, image_type, hotel_id) VALUES ('e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855', 'image/png', 0, 'HOTEL', 3);
 
 INSERT INTO users (full_name, email, password, phone, cpf, birth_date, created_at, activated, hotel_id) 
     VALUES ('Fernando', 'fernando@gmail.com', '$2a$10$vB8CKU3B8Arygzyb/nv/0Ol8YzL/YEATkB/O3pF9ltf1/B9hfhwc6', '(51) 1234-12345', '329.949.250-01', '2005-10-28', '2025-04-25 10:15:03.181656', true, 1);
@@ -40,15 +40,19 @@ INSERT INTO rooms (number, floor, type, price_per_night, description, capacity,
 INSERT INTO rooms (number, floor, type, price_per_night, description, capacity, hotel_id)
   VALUES ('303', 2, 'SUITE', 350.00, 'Quarto deluxe espaçoso com vista para o mar e varanda.', 3, 2);
 
-INSERT INTO images (base64image, image_type, room_id) VALUES ('', 'ROOM', 1);
-INSERT INTO images (base64image, image_type, room_id) VALUES ('', 'ROOM', 2);
-INSERT INTO images (base64image, image_type, room_id) VALUES ('', 'ROOM', 3);
+INSERT INTO images (storage_key, content_type, size_bytes, image_type, room_id) VALUES ('e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855', 'image/png', 0, 'ROOM', 1);
+INSERT INTO images (storage_key, content_type, size_bytes, image_type, room_id) VALUES ('e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855', 'image/png', 0, 'ROOM', 2);
+INSERT INTO images (storage_key, content_type, size_bytes, image_type, room_id) VALUES ('e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855', 'image/png', 0, 'ROOM', 3);
 
 INSERT INTO room_ratings (room_id, user_id, rating, description, created_at)
   VALUES (1, 1, 4.5, 'Quarto muito bom e confortável.', '2025-04-25 10:15:03.181656');
 INSERT INTO room_ratings (room_id, user_id, rating, description, created_at)
   VALUES (2, 2, 4.5, 'Quarto muito bom e confortável.', '2025-04-25 10:15:03.181656');
 
+UPDATE rooms SET rating_count = 1, rating_sum = 4.5 WHERE id IN (1, 2);
+UPDATE hotels h SET rating_count = (SELECT COALESCE(SUM(r.rating_count), 0) FROM rooms r WHERE r.hotel_id = h.id),
+  rating_sum = (SELECT COALESCE(SUM(r.rating_sum), 0) FROM rooms r WHERE r.hotel_id = h.id);
+
 INSERT INTO payments (amount, is_online_payment, payment_type) VALUES (750.00, false, 'DINHEIRO');
 
 INSERT INTO dinheiro_payments (id) VALUES (1);